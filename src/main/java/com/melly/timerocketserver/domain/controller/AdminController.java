@@ -0,0 +1,68 @@
+package com.melly.timerocketserver.domain.controller;
+
+import com.melly.timerocketserver.domain.dto.response.AdminUserPageResponse;
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
+import com.melly.timerocketserver.domain.service.AdminUserService;
+import com.melly.timerocketserver.global.common.ResponseController;
+import com.melly.timerocketserver.global.common.ResponseDto;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+// 관리자 전용 API (SecurityConfig 에서 /api/admins/** 는 ADMIN 권한만 허용)
+@Validated
+@RestController
+@RequestMapping("/api/admins")
+public class AdminController implements ResponseController {
+    private final AdminUserService adminUserService;
+
+    public AdminController(AdminUserService adminUserService) {
+        this.adminUserService = adminUserService;
+    }
+
+    // 회원 목록 (cursor 에 이전 응답의 nextCursor 를 넣어 다음 페이지 조회)
+    @GetMapping("/users")
+    public ResponseEntity<ResponseDto> getUsers(@RequestParam(required = false) Long cursor,
+                                                @RequestParam(required = false) Status status,
+                                                @RequestParam(required = false) Role role,
+                                                @RequestParam(required = false) String provider,
+                                                @RequestParam(defaultValue = "20") @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+                                                @Max(value = 100, message = "size는 100 이하여야 합니다.") int size) {
+        AdminUserPageResponse page = this.adminUserService.getUsers(cursor, status, role, provider, size);
+        return makeResponseEntity(HttpStatus.OK, "회원 목록 조회 성공", page);
+    }
+
+    // 회원 전체 내보내기 (format: csv, ndjson)
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "csv")
+                                                             @Pattern(regexp = "csv|ndjson", message = "format은 csv 또는 ndjson 입니다.") String format,
+                                                             @RequestParam(required = false) Status status,
+                                                             @RequestParam(required = false) Role role,
+                                                             @RequestParam(required = false) String provider) {
+        boolean csv = "csv".equals(format);
+        StreamingResponseBody body = outputStream -> {
+            if (csv) {
+                this.adminUserService.exportCsv(status, role, provider, outputStream);
+            } else {
+                this.adminUserService.exportNdjson(status, role, provider, outputStream);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + format + "\"")
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -4,9 +4,11 @@ import com.melly.timerocketserver.domain.dto.request.EmailRequest;
 import com.melly.timerocketserver.domain.dto.request.EmailVerificationRequest;
 import com.melly.timerocketserver.domain.dto.request.PasswordVerificationRequest;
 import com.melly.timerocketserver.domain.service.IMailService;
+import com.melly.timerocketserver.domain.service.MailRateLimiter;
 import com.melly.timerocketserver.global.common.ResponseController;
 import com.melly.timerocketserver.global.common.ResponseDto;
 import com.melly.timerocketserver.global.exception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,16 +21,21 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.concurrent.CompletableFuture;
 
+// @Async 는 Spring Boot 의 applicationTaskExecutor 로 실행 (spring.threads.virtual.enabled=true 이면 가상 스레드)
 @EnableAsync
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class EmailController implements ResponseController {
     private final IMailService mailService;
+    private final MailRateLimiter mailRateLimiter;
+
+    // 요청 제한의 IP 는 getRemoteAddr() 사용 (server.forward-headers-strategy=native 로 로드밸런서 뒤에서도 실제 클라이언트 IP)
 
     // 이메일 인증 코드 발송
     @PostMapping("/emails")
-    public CompletableFuture<ResponseEntity<ResponseDto>> mailSend(@RequestBody @Validated EmailRequest emailRequest) {
+    public CompletableFuture<ResponseEntity<ResponseDto>> mailSend(@RequestBody @Validated EmailRequest emailRequest, HttpServletRequest request) {
+        mailRateLimiter.check(emailRequest.getEmail(), request.getRemoteAddr());
         return mailService.sendMail(emailRequest)
                 .thenApply(code -> {
                     // 인증번호 발송 성공시 응답 생성
@@ -53,7 +60,8 @@ public class EmailController implements ResponseController {
 
     // 임시 비밀번호 발급
     @PostMapping("/emails/temp-password")
-    public ResponseEntity<ResponseDto> tempPassword(@RequestBody @Validated EmailRequest emailRequest) {
+    public ResponseEntity<ResponseDto> tempPassword(@RequestBody @Validated EmailRequest emailRequest, HttpServletRequest request) {
+        mailRateLimiter.check(emailRequest.getEmail(), request.getRemoteAddr());
         mailService.processTempPassword(emailRequest.getEmail());
         return makeResponseEntity(HttpStatus.OK, "임시 비밀번호가 이메일로 발송되었습니다.", null);
     }
@@ -2,6 +2,7 @@ package com.melly.timerocketserver.domain.controller;
 
 import com.melly.timerocketserver.domain.dto.request.PasswordRequestDto;
 import com.melly.timerocketserver.domain.dto.request.UpdateStatusRequestDto;
+import com.melly.timerocketserver.domain.dto.response.UserProfileResponse;
 import com.melly.timerocketserver.global.common.ResponseController;
 import com.melly.timerocketserver.global.common.ResponseDto;
 import com.melly.timerocketserver.domain.dto.request.SignUpRequestDto;
@@ -11,12 +12,17 @@ import com.melly.timerocketserver.global.security.CustomUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.List;
 
 @Validated  // @Validated 로 메서드 파라미터 (@PathVariable, @RequestParam)에 직접 붙은 제약을 검사
 @RestController
@@ -43,27 +49,45 @@ public class UserController implements ResponseController {
         return makeResponseEntity(HttpStatus.OK, "중복 체크 완료", null);
     }
 
+    // 사용 중인 닉네임 대신 쓸 수 있는 후보 추천
+    @GetMapping("/users/nickname-suggestions/{nickname}")
+    public ResponseEntity<ResponseDto> suggestNicknames(@PathVariable @Size(min = 2, max = 20, message = "닉네임은 2~20자 사이 입니다.") String nickname) {
+        List<String> suggestions = this.userService.suggestNicknames(nickname);
+        return makeResponseEntity(HttpStatus.OK, "닉네임 추천 완료", suggestions);
+    }
+
     @PostMapping("/tokens/refresh")
     public ResponseEntity<ResponseDto> refreshToken(HttpServletRequest request, HttpServletResponse response) {
         this.refreshService.reissueToken(request,response);
         return makeResponseEntity(HttpStatus.CREATED, "refresh_token 재발급", null);
     }
 
+    // 프로필이 바뀌지 않았으면 (If-None-Match 가 ETag 와 같으면) 본문 없이 304 반환
+    // ETag 는 캐시된 principal 로 계산하므로 304 응답에도 DB 조회가 없음
     @GetMapping("/users/profile")
-    public ResponseEntity<ResponseDto> getUserInfo() {
+    public ResponseEntity<ResponseDto> getUserInfo(WebRequest webRequest) {
         // SecurityContextHolder 에서 인증 정보를 가져옴
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        // 인증되지 않은 경우
-        if (authentication == null || !authentication.isAuthenticated()) {
+        // 인증되지 않은 경우 (permitAll 경로라 익명 사용자도 들어올 수 있음)
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof CustomUserDetails principal)) {
             return makeResponseEntity(HttpStatus.UNAUTHORIZED, "사용자 인증이 필요합니다.", null);
         }
 
-        // 인증된 사용자 정보 추출
-        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        UserProfileResponse profile = this.userService.getProfile(principal.getUser());
+        if (webRequest.checkNotModified(profileETag(profile))) {
+            return null;
+        }
 
         // 사용자 정보와 함께 응답 반환
-        return makeResponseEntity(HttpStatus.OK, "사용자 인증 완료", principal.getUser());
+        return makeResponseEntity(HttpStatus.OK, "사용자 인증 완료", profile);
+    }
+
+    // updated_at 은 초 단위라 같은 초 안의 변경도 구분되도록 응답 값의 hash 를 함께 사용
+    private String profileETag(UserProfileResponse profile) {
+        long version = profile.lastModified() == null ? 0 : profile.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return "\"" + profile.userId() + "-" + version + "-" + Integer.toHexString(profile.contentHash()) + "\"";
     }
 
     @PatchMapping("/users/{userId}/password")
@@ -25,5 +25,6 @@ public class SignUpRequestDto {
 
     @NotBlank(message = "닉네임 항목은 필수 입력 항목입니다.")
     @Size(min = 2, max = 100, message = "닉네임은 2~20자 사이 입니다.")
+    @Pattern(regexp = "^[^@]*$", message = "닉네임에는 '@' 를 사용할 수 없습니다.")
     private String nickname;
 }
@@ -0,0 +1,7 @@
+package com.melly.timerocketserver.domain.dto.response;
+
+import java.util.List;
+
+// 관리자 회원 목록 (다음 페이지는 nextCursor 를 cursor 파라미터로 전달)
+public record AdminUserPageResponse(List<AdminUserResponse> users, Long nextCursor, boolean hasNext) {
+}
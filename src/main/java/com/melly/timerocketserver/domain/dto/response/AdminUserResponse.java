@@ -0,0 +1,11 @@
+package com.melly.timerocketserver.domain.dto.response;
+
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
+
+import java.time.LocalDateTime;
+
+// 관리자 회원 목록 항목
+public record AdminUserResponse(Long userId, String email, String nickname, Role role, Status status,
+                                String provider, LocalDateTime createdAt, LocalDateTime deletedAt) {
+}
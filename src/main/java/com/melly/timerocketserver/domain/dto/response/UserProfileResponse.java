@@ -0,0 +1,40 @@
+package com.melly.timerocketserver.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
+import com.melly.timerocketserver.domain.entity.UserEntity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 프로필 조회 응답 (비밀번호 해시, provider_id 등은 조회하지 않음)
+public record UserProfileResponse(Long userId, String email, String nickname, Role role, Status status,
+                                  String provider, LocalDateTime createdAt,
+                                  @JsonIgnore LocalDateTime updatedAt) {
+    public static UserProfileResponse from(UserEntity user) {
+        return new UserProfileResponse(user.getUserId(), user.getEmail(), user.getNickname(), user.getRole(), user.getStatus(),
+                user.getProvider(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    @JsonProperty("roleDescription")
+    public String roleDescription() {
+        return role.getDescription();
+    }
+
+    @JsonProperty("statusDescription")
+    public String statusDescription() {
+        return status.getDescription();
+    }
+
+    // ETag 용 버전 (마지막 수정 시각, 수정된 적이 없으면 가입 시각)
+    public LocalDateTime lastModified() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+
+    // ETag 용 내용 hash (enum 의 hashCode 는 JVM 마다 달라서 이름으로 계산, 서버가 여러 대여도 같은 값)
+    public int contentHash() {
+        return Objects.hash(userId, email, nickname, role.name(), status.name(), provider);
+    }
+}
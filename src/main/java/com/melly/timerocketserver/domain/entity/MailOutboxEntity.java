@@ -0,0 +1,47 @@
+package com.melly.timerocketserver.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 발송할 메일을 저장하는 outbox (요청 처리 중에는 저장만 하고, 실제 발송은 MailOutboxService worker 가 처리)
+@Entity
+@Table(name="mail_outbox_tbl")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name="mail_id")
+    private Long mailId;
+
+    private String recipient;
+    private String subject;
+    private String body;    // SENT/DEAD 가 되면 null
+
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+
+    private int attempts;
+
+    @Column(name="next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name="last_error")
+    private String lastError;
+
+    @Column(name="created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name="sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,16 @@
+package com.melly.timerocketserver.domain.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum MailStatus {
+    PENDING("발송 대기"),
+    SENT("발송 완료"),
+    DEAD("발송 실패");
+
+    private final String description;
+
+    MailStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.melly.timerocketserver.domain.entity;
+
+import lombok.Getter;
+
+// 메일 종류별 템플릿 (templates/mail/{templateName}.html) 과 제목
+// 새 메일 종류는 템플릿 파일을 추가하고 여기에 한 줄만 등록하면 됨
+@Getter
+public enum MailTemplate {
+    VERIFICATION_CODE("mail/verification-code", "Time Rocket 회원가입 : 이메일 인증번호 발송"),
+    TEMP_PASSWORD("mail/temp-password", "Time Rocket : 임시 비밀번호 발송");
+
+    private final String templateName;
+    private final String subject;
+
+    MailTemplate(String templateName, String subject) {
+        this.templateName = templateName;
+        this.subject = subject;
+    }
+}
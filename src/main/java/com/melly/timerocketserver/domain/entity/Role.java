@@ -13,4 +13,14 @@ public enum Role {
         this.description = description;
     }
 
+    // 토큰의 role 클레임(권한 설명값)으로 Role 찾기
+    public static Role fromDescription(String description) {
+        for (Role role : values()) {
+            if (role.description.equals(description)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 권한입니다: " + description);
+    }
+
 }
@@ -6,7 +6,8 @@ import lombok.Getter;
 public enum Status {
     ACTIVE("계정 활성화"),
     INACTIVE("계정 비활성화"),
-    DELETED("계정 탈퇴");
+    DELETED("계정 탈퇴"),
+    ANONYMIZED("탈퇴 후 개인정보 파기");
 
     private final String description;
 
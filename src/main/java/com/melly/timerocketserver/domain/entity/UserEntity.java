@@ -50,6 +50,10 @@ public class UserEntity {
     @Column(name="provider_id")
     private String providerId;
 
+    // 토큰 무효화 카운터 (비밀번호/상태 변경, 로그아웃 시 증가) - stateless 인증 모드에서 사용
+    @Column(name="token_epoch")
+    private int tokenEpoch;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,15 @@
+package com.melly.timerocketserver.domain.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum VerificationCodeType {
+    EMAIL_CODE("이메일 인증 코드"),
+    TEMP_PASSWORD("임시 비밀번호");
+
+    private final String description;
+
+    VerificationCodeType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,56 @@
+package com.melly.timerocketserver.domain.repository;
+
+import com.melly.timerocketserver.domain.entity.VerificationCodeType;
+import com.melly.timerocketserver.global.util.ExpiringStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// JVM 메모리에 저장하는 구현 (서버가 한 대일 때만 사용, 재시작하면 코드가 사라짐)
+@Repository
+@ConditionalOnProperty(name = "app.verification-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+    private final Duration ttl;
+    private final Map<VerificationCodeType, ExpiringStore<String>> stores = new EnumMap<>(VerificationCodeType.class);
+
+    public InMemoryVerificationCodeStore(@Value("${app.verification-store.ttl-seconds:600}") long ttlSeconds,
+                                         @Value("${app.verification-store.max-size:100000}") int maxSize) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        for (VerificationCodeType type : VerificationCodeType.values()) {
+            stores.put(type, new ExpiringStore<>(ttl.toMillis(), maxSize));
+        }
+    }
+
+    @Override
+    public void save(VerificationCodeType type, String email, String code) {
+        stores.get(type).put(email, code);
+    }
+
+    @Override
+    public String find(VerificationCodeType type, String email) {
+        return stores.get(type).get(email);
+    }
+
+    @Override
+    public void delete(VerificationCodeType type, String email) {
+        stores.get(type).remove(email);
+    }
+
+    @Override
+    public void purgeExpired() {
+        stores.values().forEach(ExpiringStore::purgeExpired);
+    }
+
+    @Override
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public ExpiringStore<String> getStore(VerificationCodeType type) {
+        return stores.get(type);
+    }
+}
@@ -0,0 +1,107 @@
+package com.melly.timerocketserver.domain.repository;
+
+import com.melly.timerocketserver.domain.entity.VerificationCodeType;
+import com.melly.timerocketserver.global.util.ExpiringStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// verification_code_tbl 에 저장하는 구현 (여러 서버가 같은 코드를 조회할 수 있어 sticky session 이 필요 없음)
+// 이메일 인증 코드 재시도가 매번 DB 를 조회하지 않도록 짧은 TTL 의 near-cache 를 둠
+// near-cache 는 다른 서버에서 코드를 다시 발급한 경우 최대 near-cache-ttl-ms 동안 이전 코드를 볼 수 있음
+// 없는 코드는 캐시하지 않음 (다른 서버가 방금 발급한 코드를 거절하지 않도록)
+// 임시 비밀번호는 사용하면 바로 삭제되는 일회용이라 near-cache 를 거치지 않고 항상 DB 로 확인
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "app.verification-store.type", havingValue = "jdbc")
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final int purgeBatchSize;
+    private final ExpiringStore<String> nearCache;
+
+    public JdbcVerificationCodeStore(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.verification-store.ttl-seconds:600}") long ttlSeconds,
+                                     @Value("${app.verification-store.purge-batch-size:1000}") int purgeBatchSize,
+                                     @Value("${app.verification-store.near-cache-ttl-ms:2000}") long nearCacheTtlMs,
+                                     @Value("${app.verification-store.max-size:100000}") int nearCacheMaxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.purgeBatchSize = purgeBatchSize;
+        this.nearCache = new ExpiringStore<>(nearCacheTtlMs, nearCacheMaxSize);
+    }
+
+    @Override
+    public void save(VerificationCodeType type, String email, String code) {
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plus(ttl));
+        // VALUES() 함수는 MySQL 8.0.20 부터 deprecated 이므로 행 별칭(8.0.19+)으로 새 값을 참조
+        jdbcTemplate.update("INSERT INTO verification_code_tbl (code_type, email, code, expires_at) VALUES (?, ?, ?, ?) AS new " +
+                        "ON DUPLICATE KEY UPDATE code = new.code, expires_at = new.expires_at",
+                type.name(), email, code, expiresAt);
+        if (isCacheable(type)) {
+            nearCache.put(cacheKey(type, email), code);
+        }
+    }
+
+    @Override
+    public String find(VerificationCodeType type, String email) {
+        String key = cacheKey(type, email);
+        if (isCacheable(type)) {
+            String cached = nearCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<String> codes = jdbcTemplate.queryForList(
+                "SELECT code FROM verification_code_tbl WHERE code_type = ? AND email = ? AND expires_at > ?",
+                String.class, type.name(), email, Timestamp.valueOf(LocalDateTime.now()));
+        String code = codes.isEmpty() ? null : codes.get(0);
+        if (code != null && isCacheable(type)) {
+            nearCache.put(key, code);
+        }
+        return code;
+    }
+
+    @Override
+    public void delete(VerificationCodeType type, String email) {
+        jdbcTemplate.update("DELETE FROM verification_code_tbl WHERE code_type = ? AND email = ?", type.name(), email);
+        nearCache.remove(cacheKey(type, email));
+    }
+
+    // expires_at 인덱스로 만료된 행을 batch 단위로 삭제 (한 번에 많은 행을 잠그지 않도록)
+    @Override
+    public void purgeExpired() {
+        nearCache.purgeExpired();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM verification_code_tbl WHERE expires_at < ? LIMIT ?", now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            log.debug("만료된 인증 코드 {}건 삭제", total);
+        }
+    }
+
+    @Override
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private boolean isCacheable(VerificationCodeType type) {
+        return type != VerificationCodeType.TEMP_PASSWORD;
+    }
+
+    private String cacheKey(VerificationCodeType type, String email) {
+        return type.name() + ':' + email;
+    }
+}
@@ -0,0 +1,65 @@
+package com.melly.timerocketserver.domain.repository;
+
+import com.melly.timerocketserver.domain.entity.MailOutboxEntity;
+import com.melly.timerocketserver.domain.entity.MailStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long> {
+    // 발송 시각이 된 메일을 잠금과 함께 조회 (다른 서버가 잡고 있는 행은 건너뜀) - 트랜잭션 안에서 호출해야 함
+    @Query(value = "SELECT * FROM mail_outbox_tbl WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutboxEntity> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 선점한 메일의 시도 횟수를 올리고 lease 시간 동안 다른 worker 가 다시 잡지 않도록 미룸
+    @Modifying
+    @Query("update MailOutboxEntity m set m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil where m.mailId in :mailIds")
+    int lease(@Param("mailIds") List<Long> mailIds, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 아래 상태 변경은 모두 lease 에서 쓴 leaseUntil 이 그대로인 행만 바꿈 (lease 가 만료되어 다른 worker 가 다시 잡았으면 0건)
+
+    // 발송 완료 처리 - 본문에 인증번호/임시 비밀번호가 들어있으므로 더 이상 필요 없는 본문은 바로 지움
+    @Modifying
+    @Transactional
+    @Query("update MailOutboxEntity m set m.status = :status, m.sentAt = :sentAt, m.body = null " +
+            "where m.mailId in :mailIds and m.nextAttemptAt = :leaseUntil")
+    int markSent(@Param("mailIds") List<Long> mailIds, @Param("status") MailStatus status, @Param("sentAt") LocalDateTime sentAt,
+                 @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 재시도 예약
+    @Modifying
+    @Transactional
+    @Query("update MailOutboxEntity m set m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError " +
+            "where m.mailId = :mailId and m.nextAttemptAt = :leaseUntil")
+    int markRetry(@Param("mailId") Long mailId, @Param("status") MailStatus status,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError,
+                  @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // dead-letter 처리 (본문은 지우고, 마지막 시도 시각인 next_attempt_at 은 보관 기간 계산에 사용)
+    @Modifying
+    @Transactional
+    @Query("update MailOutboxEntity m set m.status = :status, m.lastError = :lastError, m.body = null " +
+            "where m.mailId = :mailId and m.nextAttemptAt = :leaseUntil")
+    int markDead(@Param("mailId") Long mailId, @Param("status") MailStatus status, @Param("lastError") String lastError,
+                 @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 완료된 오래된 메일을 최대 limit 개씩 삭제
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM mail_outbox_tbl WHERE status = 'SENT' AND sent_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 최종 실패한 오래된 메일을 최대 limit 개씩 삭제
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM mail_outbox_tbl WHERE status = 'DEAD' AND next_attempt_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteDeadBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
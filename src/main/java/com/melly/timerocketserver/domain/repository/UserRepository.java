@@ -1,9 +1,20 @@
 package com.melly.timerocketserver.domain.repository;
 
+import com.melly.timerocketserver.domain.dto.response.AdminUserResponse;
+import com.melly.timerocketserver.domain.dto.response.UserProfileResponse;
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
 import com.melly.timerocketserver.domain.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,10 +23,71 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByEmail(String email);
     // 닉네임이 존재하는지 여부
     boolean existsByNickname(String nickname);
-    // Email 또는 Nickname 로 UserEntity 찾기
-    UserEntity findByEmailOrNickname(String email, String nickname);
     // Email 로 UserEntity 찾기
     UserEntity findByEmail(String email);
+    // Nickname 으로 UserEntity 찾기
+    UserEntity findByNickname(String nickname);
+
+    // 로그인 아이디(email 또는 nickname)로 UserEntity 찾기
+    // email OR nickname 조건은 index merge 나 full scan 이 되므로, '@' 포함 여부로 구분해서 unique key 하나만 조회 (닉네임에는 '@' 를 쓸 수 없음)
+    default UserEntity findByUsername(String username) {
+        return username.indexOf('@') >= 0 ? findByEmail(username) : findByNickname(username);
+    }
     // 암호화된 비밀번호로 UserEntity 찾기
     Optional<UserEntity> findByPassword(String encode);
+
+    // 프로필에 필요한 컬럼만 조회
+    @Query("select new com.melly.timerocketserver.domain.dto.response.UserProfileResponse(" +
+            "u.userId, u.email, u.nickname, u.role, u.status, u.provider, u.createdAt, u.updatedAt) " +
+            "from UserEntity u where u.userId = :userId")
+    Optional<UserProfileResponse> findProfileByUserId(@Param("userId") Long userId);
+
+    // 관리자 회원 목록 - user_id 기준 keyset 페이지 (OFFSET 없이 cursor 다음 행부터 limit 개)
+    @Query("select new com.melly.timerocketserver.domain.dto.response.AdminUserResponse(" +
+            "u.userId, u.email, u.nickname, u.role, u.status, u.provider, u.createdAt, u.deletedAt) " +
+            "from UserEntity u " +
+            "where (:cursor is null or u.userId > :cursor) " +
+            "and (:status is null or u.status = :status) " +
+            "and (:role is null or u.role = :role) " +
+            "and (:provider is null or u.provider = :provider) " +
+            "order by u.userId")
+    List<AdminUserResponse> findAdminUsers(@Param("cursor") Long cursor, @Param("status") Status status,
+                                           @Param("role") Role role, @Param("provider") String provider, Limit limit);
+
+    // 비밀번호 해시만 조회 (비밀번호 변경 시 현재 비밀번호 확인용)
+    @Query("select u.password from UserEntity u where u.userId = :userId")
+    Optional<String> findPasswordByUserId(@Param("userId") Long userId);
+
+    // 이메일로 userId 만 조회
+    @Query("select u.userId from UserEntity u where u.email = :email")
+    Optional<Long> findUserIdByEmail(@Param("email") String email);
+
+    // 비밀번호 변경 + 기존 토큰 무효화(token_epoch 증가)를 UPDATE 한 번으로 처리, 변경된 행 수 반환
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.password = :password, u.updatedAt = :now, u.tokenEpoch = u.tokenEpoch + 1 where u.userId = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password, @Param("now") LocalDateTime now);
+
+    // 같은 비밀번호의 해시만 교체 (BCrypt cost 변경) - 프로필 변경이 아니므로 updated_at 을 그대로 유지 (ON UPDATE CURRENT_TIMESTAMP 방지)
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.password = :password, u.updatedAt = u.updatedAt where u.userId = :userId")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("password") String password);
+
+    // 상태 변경 + 기존 토큰 무효화, 탈퇴(DELETED)면 deleted_at 기록 / 그 외에는 null
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.status = :status, u.updatedAt = :now, u.deletedAt = :deletedAt, u.tokenEpoch = u.tokenEpoch + 1 where u.userId = :userId")
+    int updateStatus(@Param("userId") Long userId, @Param("status") Status status,
+                     @Param("deletedAt") LocalDateTime deletedAt, @Param("now") LocalDateTime now);
+
+    // 토큰 epoch 만 조회
+    @Query("select u.tokenEpoch from UserEntity u where u.userId = :userId")
+    Integer findTokenEpochByUserId(@Param("userId") Long userId);
+
+    // 토큰 epoch 증가 (해당 회원에게 이전에 발급된 토큰 무효화)
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.tokenEpoch = u.tokenEpoch + 1 where u.userId = :userId")
+    int incrementTokenEpoch(@Param("userId") Long userId);
 }
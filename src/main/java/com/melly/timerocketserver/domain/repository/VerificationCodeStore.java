@@ -0,0 +1,23 @@
+package com.melly.timerocketserver.domain.repository;
+
+import com.melly.timerocketserver.domain.entity.VerificationCodeType;
+
+import java.time.Duration;
+
+// 이메일 인증 코드 / 임시 비밀번호 저장소
+// app.verification-store.type 으로 구현 선택 (memory: 서버 한 대용, jdbc: 여러 서버가 DB 로 공유)
+public interface VerificationCodeStore {
+    // 같은 email 로 다시 저장하면 기존 코드를 덮어씀
+    void save(VerificationCodeType type, String email, String code);
+
+    // 없거나 만료되었으면 null
+    String find(VerificationCodeType type, String email);
+
+    void delete(VerificationCodeType type, String email);
+
+    // 만료된 코드 정리 (주기적으로 호출)
+    void purgeExpired();
+
+    // 코드 유효기간
+    Duration getTtl();
+}
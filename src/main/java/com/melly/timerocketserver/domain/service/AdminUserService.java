@@ -0,0 +1,151 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.melly.timerocketserver.domain.dto.response.AdminUserPageResponse;
+import com.melly.timerocketserver.domain.dto.response.AdminUserResponse;
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class AdminUserService {
+    private static final String[] EXPORT_COLUMNS = {"user_id", "email", "nickname", "role", "status", "provider", "created_at", "deleted_at"};
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AdminUserService(UserRepository userRepository, DataSource dataSource, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍 (그 외에는 전체 결과를 메모리에 적재)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    // 회원 목록 (user_id 순 keyset 페이지), 다음 페이지 존재 여부를 알기 위해 size + 1 개 조회
+    @Transactional(readOnly = true)
+    public AdminUserPageResponse getUsers(Long cursor, Status status, Role role, String provider, int size) {
+        List<AdminUserResponse> users = userRepository.findAdminUsers(cursor, status, role, provider, Limit.of(size + 1));
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+        Long nextCursor = hasNext ? users.get(users.size() - 1).userId() : null;
+        return new AdminUserPageResponse(users, nextCursor, hasNext);
+    }
+
+    // 전체 회원을 CSV 로 출력 (한 행씩 읽어서 바로 쓰므로 회원 수와 관계없이 메모리 사용량 일정)
+    public void exportCsv(Status status, Role role, String provider, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            writer.write(String.join(",", EXPORT_COLUMNS));
+            writer.write('\n');
+            streamRows(status, role, provider, rs -> {
+                for (int i = 0; i < EXPORT_COLUMNS.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(csvValue(rs.getString(i + 1)));
+                }
+                writer.write('\n');
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 전체 회원을 NDJSON (한 줄에 JSON 객체 하나) 으로 출력
+    public void exportNdjson(Status status, Role role, String provider, OutputStream outputStream) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);     // 응답 스트림은 Spring 이 닫음
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            streamRows(status, role, provider, rs -> {
+                generator.writeStartObject();
+                generator.writeNumberField("userId", rs.getLong("user_id"));
+                generator.writeStringField("email", rs.getString("email"));
+                generator.writeStringField("nickname", rs.getString("nickname"));
+                generator.writeStringField("role", rs.getString("role"));
+                generator.writeStringField("status", rs.getString("status"));
+                generator.writeStringField("provider", rs.getString("provider"));
+                generator.writeStringField("createdAt", timestamp(rs.getTimestamp("created_at")));
+                generator.writeStringField("deletedAt", timestamp(rs.getTimestamp("deleted_at")));
+                generator.writeEndObject();
+            });
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private void streamRows(Status status, Role role, String provider, RowWriter rowWriter) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", EXPORT_COLUMNS)).append(" FROM user_tbl WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (role != null) {
+            sql.append(" AND role = ?");
+            args.add(role.name());
+        }
+        if (provider != null) {
+            sql.append(" AND provider = ?");
+            args.add(provider);
+        }
+        sql.append(" ORDER BY user_id");
+
+        streamingJdbcTemplate.query(sql.toString(), rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                // 클라이언트가 다운로드를 중단한 경우 등 - 조회를 멈추고 커넥션 반환
+                throw new UncheckedIOException(e);
+            }
+        }, args.toArray());
+    }
+
+    // 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR 로 시작하는 값은 앞에 ' 를 붙임 (닉네임, 이메일은 사용자 입력)
+    private String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private String timestamp(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+    }
+}
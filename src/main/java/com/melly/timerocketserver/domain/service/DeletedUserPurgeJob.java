@@ -0,0 +1,191 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.global.security.PrincipalCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 탈퇴(DELETED) 후 보관 기간이 지난 회원을 정리하는 작업
+// mode=delete: 회원 행 삭제 / mode=anonymize: 이메일, 닉네임, 비밀번호 등을 지우고 ANONYMIZED 로 변경 (행은 유지)
+// (status, deleted_at) 인덱스로 대상을 찾고, batch-size 개씩 별도 트랜잭션으로 커밋한 뒤 batch-pause-ms 만큼 쉬어 잠금과 부하를 짧게 유지
+// 배치 사이에 쉬는 동안 다른 @Scheduled 작업을 막지 않도록 스케줄러 스레드가 아닌 전용 스레드에서 실행
+@Slf4j
+@Component
+public class DeletedUserPurgeJob {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PrincipalCache principalCache;
+    private final NicknameIndex nicknameIndex;
+    private final boolean anonymize;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long batchPauseMs;
+
+    private final LongAdder purgedTotal = new LongAdder();
+    private volatile long lastRunRows;
+    private volatile double lastRunRowsPerSecond;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deleted-user-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Target(long userId, String email, String nickname) {
+    }
+
+    public DeletedUserPurgeJob(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               PrincipalCache principalCache, NicknameIndex nicknameIndex,
+                               @Value("${app.user-purge.mode:delete}") String mode,
+                               @Value("${app.user-purge.retention-days:30}") int retentionDays,
+                               @Value("${app.user-purge.batch-size:200}") int batchSize,
+                               @Value("${app.user-purge.max-batches:500}") int maxBatches,
+                               @Value("${app.user-purge.batch-pause-ms:100}") long batchPauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.principalCache = principalCache;
+        this.nicknameIndex = nicknameIndex;
+        this.anonymize = "anonymize".equalsIgnoreCase(mode);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    // 이전 실행이 아직 끝나지 않았으면 이번 실행은 건너뜀
+    @Scheduled(cron = "${app.user-purge.cron:0 30 4 * * *}")
+    public void schedulePurge() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 탈퇴 회원 정리 작업이 실행 중이라 건너뜀");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purgeDeletedUsers();
+            } catch (RuntimeException e) {
+                log.error("탈퇴 회원 정리 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void purgeDeletedUsers() {
+        Timestamp deletedBefore = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        long start = System.nanoTime();
+        long total = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                List<Target> targets = findTargets(deletedBefore);
+                if (targets.isEmpty()) {
+                    break;
+                }
+                List<Target> purged = transactionTemplate.execute(status -> purgeBatch(targets));
+                total += purged.size();
+                purgedTotal.add(purged.size());
+                // 실제로 정리한 회원만 캐시와 닉네임 인덱스에서 제거 (삭제, 익명화 모두 닉네임 unique key 가 풀림)
+                for (Target target : purged) {
+                    principalCache.evict(target.userId());
+                    if (target.nickname() != null) {
+                        nicknameIndex.remove(target.nickname());
+                    }
+                }
+                if (targets.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            lastRunRows = total;
+            lastRunRowsPerSecond = seconds > 0 ? total / seconds : 0;
+        }
+        if (total > 0) {
+            log.info("탈퇴 회원 {}건 {} ({}건/초)", total, anonymize ? "익명화" : "삭제", String.format("%.1f", lastRunRowsPerSecond));
+        }
+    }
+
+    private List<Target> findTargets(Timestamp deletedBefore) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("deletedBefore", deletedBefore)
+                .addValue("limit", batchSize);
+        return jdbcTemplate.query("SELECT user_id, email, nickname FROM user_tbl " +
+                        "WHERE status = 'DELETED' AND deleted_at < :deletedBefore ORDER BY deleted_at LIMIT :limit",
+                params,
+                (rs, rowNum) -> new Target(rs.getLong("user_id"), rs.getString("email"), rs.getString("nickname")));
+    }
+
+    // 조회 이후 다시 활성화된 회원은 건드리지 않도록 아직 DELETED 인 행만 잠금과 함께 다시 조회하고, 그 회원만 정리해서 반환
+    private List<Target> purgeBatch(List<Target> targets) {
+        List<Long> candidateIds = new ArrayList<>(targets.size());
+        for (Target target : targets) {
+            candidateIds.add(target.userId());
+        }
+        List<Target> confirmed = jdbcTemplate.query("SELECT user_id, email, nickname FROM user_tbl " +
+                        "WHERE user_id IN (:userIds) AND status = 'DELETED' FOR UPDATE",
+                new MapSqlParameterSource("userIds", candidateIds),
+                (rs, rowNum) -> new Target(rs.getLong("user_id"), rs.getString("email"), rs.getString("nickname")));
+        if (confirmed.isEmpty()) {
+            return confirmed;
+        }
+
+        List<Long> userIds = new ArrayList<>(confirmed.size());
+        List<String> emails = new ArrayList<>(confirmed.size());
+        for (Target target : confirmed) {
+            userIds.add(target.userId());
+            emails.add(target.email());
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("emails", emails);
+
+        jdbcTemplate.update("DELETE FROM refresh_tbl WHERE username IN (:emails)", params);
+        if (anonymize) {
+            jdbcTemplate.update("UPDATE user_tbl SET email = CONCAT('deleted-', user_id, '@anonymized.invalid'), " +
+                    "nickname = NULL, password = NULL, provider = NULL, provider_id = NULL, status = 'ANONYMIZED', " +
+                    "token_epoch = token_epoch + 1 " +
+                    "WHERE user_id IN (:userIds)", params);
+        } else {
+            jdbcTemplate.update("DELETE FROM user_tbl WHERE user_id IN (:userIds)", params);
+        }
+        return confirmed;
+    }
+
+    public long getPurgedTotal() {
+        return purgedTotal.sum();
+    }
+
+    public long getLastRunRows() {
+        return lastRunRows;
+    }
+
+    public double getLastRunRowsPerSecond() {
+        return lastRunRowsPerSecond;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+}
@@ -0,0 +1,113 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import com.melly.timerocketserver.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 가입된 이메일 Bloom filter (가입 전 이메일 확인은 대부분 "없음" 이므로 DB 조회 없이 메모리에서 응답)
+// Bloom filter 가 "있을 수도 있음" 이라고 답한 경우에만 existsByEmail 로 확인
+// 다른 서버에서 가입한 이메일은 sync-interval-ms 마다 마지막으로 읽은 user_id 부근 이후 행만 읽어서 반영
+// AUTO_INCREMENT 값은 커밋 순서와 다를 수 있으므로(동시 가입, 다른 서버의 가입) 마지막 user_id 에서 app.user-sync.overlap-ids 만큼 앞부터 다시 읽음
+// (먼저 번호를 받고 늦게 커밋된 행을 건너뛰면 그 이메일은 계속 "없음" 으로 잘못 응답하게 됨)
+@Slf4j
+@Component
+public class EmailExistenceFilter {
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final BloomFilter bloomFilter;
+    private final long syncOverlapIds;
+    private final AtomicLong lastUserId = new AtomicLong();
+    private volatile boolean ready = false;
+
+    private final LongAdder negatives = new LongAdder();        // Bloom filter 만으로 응답한 수
+    private final LongAdder dbChecks = new LongAdder();         // DB 로 확인한 수
+    private final LongAdder falsePositives = new LongAdder();   // DB 확인 결과 없었던 수
+
+    public EmailExistenceFilter(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+                                @Value("${app.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${app.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${app.user-sync.overlap-ids:1000}") long syncOverlapIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.syncOverlapIds = syncOverlapIds;
+    }
+
+    // 서버 시작 시 전체 이메일 적재 (적재 전에는 DB 로 확인)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        sync();
+        ready = true;
+        log.info("이메일 필터 적재 완료 (user_id {} 까지, {}ms)", lastUserId.get(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${app.email-filter.sync-interval-ms:5000}", initialDelayString = "${app.email-filter.sync-interval-ms:5000}")
+    public void sync() {
+        jdbcTemplate.query("SELECT user_id, email FROM user_tbl WHERE user_id > ? ORDER BY user_id",
+                rs -> {
+                    add(rs.getString("email"));
+                    lastUserId.accumulateAndGet(rs.getLong("user_id"), Math::max);
+                },
+                Math.max(0, lastUserId.get() - syncOverlapIds));
+    }
+
+    public void add(String email) {
+        bloomFilter.put(normalize(email));
+    }
+
+    public boolean exists(String email) {
+        if (ready && !bloomFilter.mightContain(normalize(email))) {
+            negatives.increment();
+            return false;
+        }
+        dbChecks.increment();
+        boolean exists = userRepository.existsByEmail(email);
+        if (ready && !exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    // 실제 오탐률 (Bloom filter 가 "없음" 이어야 했던 조회 중 "있을 수도 있음" 으로 답한 비율)
+    public double getObservedFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long total = fp + negatives.sum();
+        return total == 0 ? 0.0 : (double) fp / total;
+    }
+
+    // 현재 채워진 비트 수로 계산한 예상 오탐률
+    public double getExpectedFalsePositiveRate() {
+        return bloomFilter.expectedFalsePositiveRate();
+    }
+
+    public long getNegativeCount() {
+        return negatives.sum();
+    }
+
+    public long getDbCheckCount() {
+        return dbChecks.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
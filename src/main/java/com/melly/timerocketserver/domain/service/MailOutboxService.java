@@ -0,0 +1,262 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.domain.entity.MailOutboxEntity;
+import com.melly.timerocketserver.domain.entity.MailStatus;
+import com.melly.timerocketserver.domain.entity.MailTemplate;
+import com.melly.timerocketserver.domain.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 메일 outbox 저장 및 발송 worker
+// 요청 처리 중에는 outbox 에 한 행만 저장하고 바로 반환하며, worker 가 주기적으로 배치 단위로 꺼내 발송
+// 배치는 SMTP 연결 하나로 발송하고, 실패하면 지수 백오프로 재시도하다가 max-attempts 를 넘으면 DEAD(dead-letter) 처리
+// 선점(lease) 시 next_attempt_at 에 쓴 값이 그대로일 때만 상태를 바꾸므로, lease 가 만료되어 다른 worker 가 다시 잡은 메일은 건드리지 않음
+// lease 는 배치 발송이 가장 오래 걸리는 경우(SMTP 연결 + 메일마다 응답/쓰기 timeout)보다 길어야 하며, 짧으면 시작 시 실패
+// 본문에는 인증번호/임시 비밀번호가 들어있으므로 SENT/DEAD 가 되면 본문을 지우고, 두 상태 모두 보관 기간이 지나면 삭제
+@Slf4j
+@Service
+public class MailOutboxService {
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final InternetAddress sender;   // 발신자 주소는 한 번만 파싱해서 재사용
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final long backoffSeconds;
+    private final int maxBatchesPerPoll;
+    // SMTP 발송 시간(배치 단위), 발송 완료 건수, 실패 건수(재시도 예약/최종 실패)
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final Counter sentCount;
+    private final Counter retryCount;
+    private final Counter deadCount;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender,
+                             TransactionTemplate transactionTemplate, MailTemplateRenderer mailTemplateRenderer,
+                             MeterRegistry meterRegistry,
+                             @Value("${spring.mail.username}") String senderEmail,
+                             @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+                             @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${app.mail.outbox.lease-seconds:300}") long leaseSeconds,
+                             @Value("${app.mail.outbox.backoff-seconds:10}") long backoffSeconds,
+                             @Value("${app.mail.outbox.max-batches-per-poll:5}") int maxBatchesPerPoll,
+                             @Value("${spring.mail.properties.mail.smtp.connectiontimeout:0}") long connectionTimeoutMs,
+                             @Value("${spring.mail.properties.mail.smtp.timeout:0}") long readTimeoutMs,
+                             @Value("${spring.mail.properties.mail.smtp.writetimeout:0}") long writeTimeoutMs) throws AddressException {
+        // timeout 이 없으면(0) JavaMail 은 무한정 기다리므로 배치 발송 시간의 상한을 정할 수 없음
+        if (connectionTimeoutMs <= 0 || readTimeoutMs <= 0 || writeTimeoutMs <= 0) {
+            throw new IllegalStateException("spring.mail.properties.mail.smtp 의 connectiontimeout, timeout, writetimeout 을 설정해야 합니다.");
+        }
+        long worstCaseBatchMs = connectionTimeoutMs + batchSize * (readTimeoutMs + writeTimeoutMs);
+        if (leaseSeconds * 1000 <= worstCaseBatchMs) {
+            throw new IllegalStateException("app.mail.outbox.lease-seconds(" + leaseSeconds + ") 는 배치 최대 발송 시간("
+                    + worstCaseBatchMs / 1000 + "초)보다 길어야 합니다.");
+        }
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.sender = new InternetAddress(senderEmail);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.backoffSeconds = backoffSeconds;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.sendSuccess = sendTimer(meterRegistry, "success");
+        this.sendFailure = sendTimer(meterRegistry, "failure");
+        this.sentCount = Counter.builder("mail.sent").description("발송 완료된 메일 수").register(meterRegistry);
+        this.retryCount = failureCounter(meterRegistry, "retry");
+        this.deadCount = failureCounter(meterRegistry, "dead");
+    }
+
+    // 템플릿으로 본문을 렌더링해서 outbox 에 저장
+    public void enqueue(String recipient, MailTemplate mailTemplate, Map<String, ?> context) {
+        enqueue(recipient, mailTemplate.getSubject(), mailTemplateRenderer.render(mailTemplate, context));
+    }
+
+    // 메일을 outbox 에 저장 (실제 발송은 worker 가 처리)
+    public void enqueue(String recipient, String subject, String body) {
+        MailOutboxEntity mail = MailOutboxEntity.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(MailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        mailOutboxRepository.save(mail);
+    }
+
+    // 발송할 메일이 남아있는 동안 배치 단위로 반복 발송
+    // 한 번에 최대 max-batches-per-poll 배치까지만 보내고 스케줄러 스레드를 반환 (남은 메일은 다음 주기에 발송)
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        Claim claim;
+        int batches = 0;
+        do {
+            claim = claimBatch();
+            if (!claim.mails().isEmpty()) {
+                sendBatch(claim);
+            }
+        } while (claim.mails().size() == batchSize && ++batches < maxBatchesPerPoll);
+    }
+
+    // 발송 완료/최종 실패한 메일은 보관 기간이 지나면 정리
+    @Scheduled(fixedDelayString = "${app.mail.outbox.cleanup-interval-ms:3600000}")
+    public void deleteOldMails() {
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+        while (mailOutboxRepository.deleteSentBefore(before, 1000) == 1000) {
+            // 1000 건씩 나눠서 삭제
+        }
+        while (mailOutboxRepository.deleteDeadBefore(before, 1000) == 1000) {
+            // 1000 건씩 나눠서 삭제
+        }
+    }
+
+    // 발송 대상을 잠금과 함께 조회하고 lease 를 걸어 커밋 (SMTP 발송 동안 DB 잠금을 잡고 있지 않도록)
+    // leaseUntil 은 DB(datetime) 에 저장된 값과 그대로 비교할 수 있도록 초 단위로 자름
+    private Claim claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds).truncatedTo(ChronoUnit.SECONDS);
+            List<MailOutboxEntity> due = mailOutboxRepository.findDueForUpdate(now, batchSize);
+            if (!due.isEmpty()) {
+                List<Long> mailIds = due.stream().map(MailOutboxEntity::getMailId).toList();
+                mailOutboxRepository.lease(mailIds, leaseUntil);
+            }
+            return new Claim(due, leaseUntil);
+        });
+    }
+
+    private void sendBatch(Claim claim) {
+        List<MailOutboxEntity> batch = claim.mails();
+        Map<MimeMessage, MailOutboxEntity> messages = new LinkedHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (MailOutboxEntity mail : batch) {
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException e) {
+                failures.put(mail.getMailId(), e.getMessage());
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                // JavaMailSenderImpl 은 한 번의 send 호출에서 SMTP 연결(Transport) 하나로 모든 메일을 발송
+                javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+                sendSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (MailSendException e) {
+                sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                // 실패한 메일만 골라서 재시도 (실패 목록이 없으면 전체 실패로 처리)
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(mail -> failures.put(mail.getMailId(), e.getMessage()));
+                } else {
+                    e.getFailedMessages().forEach((message, ex) ->
+                            failures.put(messages.get(message).getMailId(), ex.getMessage()));
+                }
+            } catch (MailException e) {
+                sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                messages.values().forEach(mail -> failures.put(mail.getMailId(), e.getMessage()));
+            }
+        }
+
+        complete(claim, failures);
+    }
+
+    private void complete(Claim claim, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        for (MailOutboxEntity mail : claim.mails()) {
+            String error = failures.get(mail.getMailId());
+            if (error == null) {
+                sentIds.add(mail.getMailId());
+                continue;
+            }
+            int attempts = mail.getAttempts() + 1;  // claimBatch 에서 증가시킨 값
+            if (attempts >= maxAttempts) {
+                log.error("메일 발송 최종 실패 (mailId: {}, 수신자: {}): {}", mail.getMailId(), mail.getRecipient(), error);
+                if (mailOutboxRepository.markDead(mail.getMailId(), MailStatus.DEAD, truncate(error), claim.leaseUntil()) == 0) {
+                    warnLeaseLost(1);
+                }
+                deadCount.increment();
+            } else {
+                // 10초, 20초, 40초 ... 로 재시도 간격 증가
+                LocalDateTime nextAttemptAt = now.plusSeconds(backoffSeconds << (attempts - 1));
+                log.warn("메일 발송 실패, 재시도 예약 (mailId: {}, 시도: {}회): {}", mail.getMailId(), attempts, error);
+                if (mailOutboxRepository.markRetry(mail.getMailId(), MailStatus.PENDING, nextAttemptAt, truncate(error), claim.leaseUntil()) == 0) {
+                    warnLeaseLost(1);
+                }
+                retryCount.increment();
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            int updated = mailOutboxRepository.markSent(sentIds, MailStatus.SENT, now, claim.leaseUntil());
+            if (updated < sentIds.size()) {
+                warnLeaseLost(sentIds.size() - updated);
+            }
+            sentCount.increment(sentIds.size());
+        }
+    }
+
+    // lease 가 만료되어 다른 worker 가 다시 잡은 메일 (이미 발송했다면 중복 발송될 수 있음)
+    private void warnLeaseLost(int count) {
+        log.warn("lease 가 만료된 메일 {}건은 상태를 바꾸지 않음 (lease-seconds 확인 필요)", count);
+    }
+
+    private MimeMessage createMessage(MailOutboxEntity mail) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        // 본문이 HTML 하나뿐이므로 multipart 없이 단일 파트로 생성
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(sender);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), true);
+        return message;
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    private record Claim(List<MailOutboxEntity> mails, LocalDateTime leaseUntil) {
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("mail.send")
+                .description("SMTP 배치 발송 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mail.send.failures")
+                .description("발송 실패한 메일 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
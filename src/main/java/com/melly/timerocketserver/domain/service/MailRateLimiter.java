@@ -0,0 +1,49 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.global.exception.TooManyRequestsException;
+import com.melly.timerocketserver.global.util.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// 메일 발송 요청 제한 (수신 이메일별, 요청 IP별)
+// 컨트롤러에서 DB 조회나 메일 저장 전에 호출해서 초과 요청은 바로 429 로 거절
+@Component
+public class MailRateLimiter {
+    private final TokenBucketRateLimiter emailLimiter;
+    private final TokenBucketRateLimiter ipLimiter;
+
+    private final LongAdder emailRejections = new LongAdder();
+    private final LongAdder ipRejections = new LongAdder();
+
+    public MailRateLimiter(@Value("${app.mail.rate-limit.per-email:3}") int perEmail,
+                           @Value("${app.mail.rate-limit.per-ip:20}") int perIp,
+                           @Value("${app.mail.rate-limit.period-seconds:600}") long periodSeconds,
+                           @Value("${app.mail.rate-limit.stripes:65536}") int stripes) {
+        Duration period = Duration.ofSeconds(periodSeconds);
+        this.emailLimiter = new TokenBucketRateLimiter(perEmail, period, stripes);
+        this.ipLimiter = new TokenBucketRateLimiter(perIp, period, stripes);
+    }
+
+    public void check(String email, String clientIp) {
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            ipRejections.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!emailLimiter.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            emailRejections.increment();
+            throw new TooManyRequestsException("해당 이메일로 너무 많은 메일이 발송되었습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public long getEmailRejectionCount() {
+        return emailRejections.sum();
+    }
+
+    public long getIpRejectionCount() {
+        return ipRejections.sum();
+    }
+}
@@ -0,0 +1,39 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.domain.entity.MailTemplate;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.springframework.stereotype.Component;
+
+import java.io.StringWriter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 메일 본문 템플릿을 시작 시 한 번만 컴파일해 두고, 발송마다 값만 채워서 렌더링
+// 템플릿 파일이 없거나 문법 오류가 있으면 서버 시작 시점에 실패
+@Component
+public class MailTemplateRenderer {
+    private final Map<MailTemplate, Template> templates = new EnumMap<>(MailTemplate.class);
+    // 템플릿별 마지막 렌더링 길이 (다음 렌더링 버퍼를 처음부터 충분한 크기로 잡아 재할당을 줄임)
+    private final AtomicIntegerArray sizeHints = new AtomicIntegerArray(MailTemplate.values().length);
+
+    public MailTemplateRenderer(Mustache.Compiler mustacheCompiler) {
+        for (MailTemplate mailTemplate : MailTemplate.values()) {
+            try {
+                templates.put(mailTemplate, mustacheCompiler.loadTemplate(mailTemplate.getTemplateName()));
+            } catch (Exception e) {
+                throw new IllegalStateException("메일 템플릿 로드 실패: " + mailTemplate.getTemplateName(), e);
+            }
+        }
+    }
+
+    public String render(MailTemplate mailTemplate, Map<String, ?> context) {
+        int ordinal = mailTemplate.ordinal();
+        StringWriter writer = new StringWriter(Math.max(sizeHints.get(ordinal), 256));
+        templates.get(mailTemplate).execute(context, writer);
+        String body = writer.toString();
+        sizeHints.set(ordinal, body.length());
+        return body;
+    }
+}
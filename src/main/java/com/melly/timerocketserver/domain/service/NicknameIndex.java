@@ -0,0 +1,121 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import com.melly.timerocketserver.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 닉네임 중복 체크용 메모리 인덱스 (회원가입 화면에서 입력할 때마다 호출되므로 DB 를 조회하지 않음)
+// Bloom filter 로 "확실히 없는" 닉네임을 바로 걸러내고, 있을 수도 있는 경우만 정렬된 집합에서 확인
+// 다른 서버에서 가입한 닉네임은 sync-interval-ms 마다 마지막으로 읽은 user_id 부근 이후 행만 읽어서 반영
+// EmailExistenceFilter 와 같이 늦게 커밋된 행을 놓치지 않도록 app.user-sync.overlap-ids 만큼 앞부터 다시 읽음
+// 반영 전에 같은 닉네임으로 가입하면 unique key 로 회원가입이 거절되므로 여기서는 빠른 안내 용도로만 사용
+@Slf4j
+@Component
+public class NicknameIndex {
+    private static final int NICKNAME_MAX_LENGTH = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final BloomFilter bloomFilter;
+    private final long syncOverlapIds;
+    // user_tbl 의 collation(utf8mb4_general_ci) 처럼 대소문자를 구분하지 않도록 소문자로 저장
+    private final NavigableSet<String> nicknames = new ConcurrentSkipListSet<>();
+    private final AtomicLong lastUserId = new AtomicLong();
+    private volatile boolean ready = false;
+
+    public NicknameIndex(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+                         @Value("${app.nickname-index.expected-insertions:1000000}") long expectedInsertions,
+                         @Value("${app.user-sync.overlap-ids:1000}") long syncOverlapIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.bloomFilter = new BloomFilter(expectedInsertions, 0.01);
+        this.syncOverlapIds = syncOverlapIds;
+    }
+
+    // 서버 시작 시 전체 닉네임 적재 (적재 전에는 DB 로 확인)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        sync();
+        ready = true;
+        log.info("닉네임 인덱스 적재 완료 ({}건, {}ms)", nicknames.size(), System.currentTimeMillis() - start);
+    }
+
+    // 마지막으로 읽은 user_id 부근 이후에 추가된 회원의 닉네임만 반영
+    @Scheduled(fixedDelayString = "${app.nickname-index.sync-interval-ms:5000}", initialDelayString = "${app.nickname-index.sync-interval-ms:5000}")
+    public void sync() {
+        jdbcTemplate.query("SELECT user_id, nickname FROM user_tbl WHERE user_id > ? ORDER BY user_id",
+                rs -> {
+                    String nickname = rs.getString("nickname");
+                    if (nickname != null) {
+                        add(nickname);
+                    }
+                    lastUserId.accumulateAndGet(rs.getLong("user_id"), Math::max);
+                },
+                Math.max(0, lastUserId.get() - syncOverlapIds));
+    }
+
+    public void add(String nickname) {
+        String key = normalize(nickname);
+        nicknames.add(key);
+        bloomFilter.put(key);
+    }
+
+    // 회원 행이 삭제되어 닉네임을 다시 쓸 수 있게 된 경우 (Bloom filter 에서는 지울 수 없지만 집합에서 제거하면 사용 가능으로 판단)
+    // 다른 서버의 인덱스에는 재시작 전까지 사용 중으로 남음 (가입 가능한 닉네임을 막는 쪽이라 안전)
+    public void remove(String nickname) {
+        nicknames.remove(normalize(nickname));
+    }
+
+    public boolean isTaken(String nickname) {
+        if (!ready) {
+            return userRepository.existsByNickname(nickname);
+        }
+        String key = normalize(nickname);
+        if (!bloomFilter.mightContain(key)) {
+            return false;
+        }
+        return nicknames.contains(key);
+    }
+
+    // 사용 중인 닉네임이면 뒤에 숫자를 붙인 사용 가능한 후보를 최대 count 개 반환 (20자를 넘으면 앞부분을 줄임)
+    public List<String> suggest(String nickname, int count) {
+        List<String> suggestions = new ArrayList<>(count);
+        for (int suffix = 1; suggestions.size() < count && suffix < 10000; suffix++) {
+            String number = String.valueOf(suffix);
+            String base = nickname.length() + number.length() > NICKNAME_MAX_LENGTH
+                    ? nickname.substring(0, NICKNAME_MAX_LENGTH - number.length())
+                    : nickname;
+            String candidate = base + number;
+            if (!isTaken(candidate)) {
+                suggestions.add(candidate);
+            }
+        }
+        return suggestions;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return nicknames.size();
+    }
+
+    private String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,25 +3,50 @@ package com.melly.timerocketserver.domain.service;
 import com.melly.timerocketserver.domain.dto.request.PasswordRequestDto;
 import com.melly.timerocketserver.domain.dto.request.SignUpRequestDto;
 import com.melly.timerocketserver.domain.dto.request.UpdateStatusRequestDto;
+import com.melly.timerocketserver.domain.dto.response.UserProfileResponse;
 import com.melly.timerocketserver.domain.entity.Role;
 import com.melly.timerocketserver.domain.entity.Status;
 import com.melly.timerocketserver.domain.entity.UserEntity;
 import com.melly.timerocketserver.domain.repository.UserRepository;
 import com.melly.timerocketserver.global.exception.DuplicateNicknameException;
 import com.melly.timerocketserver.global.exception.UserNotFoundException;
+import com.melly.timerocketserver.global.jwt.TokenEpochService;
+import com.melly.timerocketserver.global.security.PrincipalCache;
+import com.melly.timerocketserver.global.util.TransactionUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 public class UserService {
+    private static final Pattern DUPLICATE_KEY_PATTERN = Pattern.compile("for key '([^']*)'");
+    private static final Pattern INDEX_SUFFIX_PATTERN = Pattern.compile("_index_[0-9a-z]+$");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final TokenEpochService tokenEpochService;
+    private final NicknameIndex nicknameIndex;
+    private final EmailExistenceFilter emailExistenceFilter;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PrincipalCache principalCache,
+                       TokenEpochService tokenEpochService, NicknameIndex nicknameIndex, EmailExistenceFilter emailExistenceFilter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.tokenEpochService = tokenEpochService;
+        this.nicknameIndex = nicknameIndex;
+        this.emailExistenceFilter = emailExistenceFilter;
     }
 
     // 회원가입 비즈니스 로직
@@ -31,14 +56,6 @@ public class UserService {
             // RuntimeException 은 throws 를 명시하지 않음
             throw new IllegalArgumentException("닉네임은 이메일과 동일할 수 없습니다.");
         }
-        // 이메일 중복 검사
-        if(userRepository.existsByEmail(signUpRequestDto.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
-        }
-        // 닉네임 중복 검사
-        if(userRepository.existsByNickname(signUpRequestDto.getNickname())) {
-            throw new DuplicateNicknameException("이미 존재하는 닉네임입니다.");
-        }
         UserEntity userEntity = UserEntity.builder()
                 .email(signUpRequestDto.getEmail())
                 .password(passwordEncoder.encode(signUpRequestDto.getPassword()))
@@ -46,20 +63,67 @@ public class UserService {
                 .role(Role.USER)
                 .status(Status.ACTIVE)
                 .build();
-        this.userRepository.save(userEntity);
+        // 이메일, 닉네임 중복은 미리 조회하지 않고 unique key 위반으로 판단 (INSERT 한 번, 동시 가입도 DB 가 막아줌)
+        try {
+            this.userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException e) {
+            String key = violatedKey(e);
+            if ("nickname".equals(key)) {
+                throw new DuplicateNicknameException("이미 존재하는 닉네임입니다.");
+            }
+            if ("email".equals(key)) {
+                throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
+            }
+            throw e;    // 길이 초과, NOT NULL 등 중복이 아닌 위반은 그대로 전달
+        }
+        this.nicknameIndex.add(userEntity.getNickname());
+        this.emailExistenceFilter.add(userEntity.getEmail());
+    }
+
+    // 위반한 unique key 이름 (user_tbl 의 email, nickname), 알 수 없으면 null
+    // Hibernate 가 DB 별로 추출한 constraint 이름을 우선 사용하고, 없으면 MySQL 메시지 "Duplicate entry '...' for key 'user_tbl.nickname'" 에서 추출
+    // "user_tbl.nickname", "PUBLIC.NICKNAME_INDEX_8"(H2) 처럼 앞의 테이블/스키마 이름과 뒤의 인덱스 번호는 제거
+    private String violatedKey(DataIntegrityViolationException e) {
+        String key = null;
+        for (Throwable cause = e; cause != null && key == null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                key = violation.getConstraintName();
+            }
+        }
+        if (key == null) {
+            String message = e.getMostSpecificCause().getMessage();
+            Matcher matcher = DUPLICATE_KEY_PATTERN.matcher(message == null ? "" : message);
+            if (!matcher.find()) {
+                return null;
+            }
+            key = matcher.group(1);
+        }
+        key = key.replace("\"", "").replace("`", "").trim().toLowerCase(Locale.ROOT);
+        int space = key.indexOf(' ');
+        if (space > 0) {
+            key = key.substring(0, space);
+        }
+        key = key.substring(key.lastIndexOf('.') + 1);
+        return INDEX_SUFFIX_PATTERN.matcher(key).replaceFirst("");
     }
 
-    // 닉네임 중복체크 비즈니스 로직
+    // 닉네임 중복체크 비즈니스 로직 (DB 대신 메모리 인덱스 조회)
     public void duplicateNickname(String nickname) {
-        boolean isDuplicate = userRepository.existsByNickname(nickname);
+        boolean isDuplicate = nicknameIndex.isTaken(nickname);
         if (isDuplicate) {
             throw new DuplicateNicknameException("이미 존재하는 닉네임입니다.");
         }
     }
 
-    // 이메일과 닉네임을 통한 유저 찾기
-    public UserEntity findByEmailOrNickname(String username) {
-        UserEntity user = this.userRepository.findByEmailOrNickname(username, username);
+    // 사용 가능한 닉네임 후보 추천
+    public List<String> suggestNicknames(String nickname) {
+        return nicknameIndex.suggest(nickname, 5);
+    }
+
+    // 이메일 또는 닉네임을 통한 유저 찾기
+    @Transactional(readOnly = true)
+    public UserEntity findByUsername(String username) {
+        UserEntity user = this.userRepository.findByUsername(username);
         if(user != null){
             return user;
         }else{
@@ -67,7 +131,25 @@ public class UserService {
         }
     }
 
+    // 인증된 사용자의 프로필 (JwtFilter 가 PrincipalCache 에서 꺼낸 회원 정보를 그대로 사용해서 DB 조회 없음)
+    // stateless 모드의 principal 은 토큰 값만 담고 있어 가입일 등이 없으므로 DB 에서 조회
+    // 캐시된 정보는 최대 principal-cache.ttl-seconds 동안 다른 서버의 변경을 반영하지 못함 (같은 서버의 변경은 evict 로 바로 반영)
+    public UserProfileResponse getProfile(UserEntity principal) {
+        if (principal.getCreatedAt() != null) {
+            return UserProfileResponse.from(principal);
+        }
+        return getProfile(principal.getUserId());
+    }
+
+    // 프로필 조회
+    @Transactional(readOnly = true)
+    public UserProfileResponse getProfile(Long userId) {
+        return this.userRepository.findProfileByUserId(userId)
+                .orElseThrow(() -> new UserNotFoundException("해당 회원은 존재하지 않습니다."));
+    }
+
     // 이메일을 통한 유저 찾기
+    @Transactional(readOnly = true)
     public UserEntity findByEmail(String email) {
         UserEntity user = this.userRepository.findByEmail(email);
         if(user != null){
@@ -79,37 +161,64 @@ public class UserService {
 
     // 이메일 중복 여부 확인
     public boolean isEmailExist(String email) {
-        return userRepository.existsByEmail(email);
+        return emailExistenceFilter.exists(email);
     }
 
     // 비밀번호 변경
+    // BCrypt 비교/해시 동안 DB 커넥션을 잡고 있지 않도록 서비스 전체를 트랜잭션으로 묶지 않음 (조회, UPDATE 가 각각 한 문장)
     public void updatePassword(Long userId, PasswordRequestDto passwordRequestDto) {
         String currentPassword = passwordRequestDto.getCurrentPassword();
         String newPassword = passwordRequestDto.getNewPassword();
 
-        UserEntity userEntity = this.userRepository.findById(userId).orElseThrow(()-> new UserNotFoundException("해당 회원은 존재하지 않습니다."));
+        String passwordHash = this.userRepository.findPasswordByUserId(userId).orElseThrow(()-> new UserNotFoundException("해당 회원은 존재하지 않습니다."));
 
-        if(!passwordEncoder.matches(currentPassword,userEntity.getPassword())){
+        if(!passwordEncoder.matches(currentPassword, passwordHash)){
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
-        userEntity.setPassword(passwordEncoder.encode(newPassword));
-        this.userRepository.save(userEntity);
+        int updated = this.userRepository.updatePassword(userId, passwordEncoder.encode(newPassword), LocalDateTime.now());
+        if (updated == 0) {
+            throw new UserNotFoundException("해당 회원은 존재하지 않습니다.");
+        }
+        evictAfterCommit(userId);   // token_epoch 는 UPDATE 문에서 함께 증가
     }
 
-    public void updateStatus(Long userId, UpdateStatusRequestDto updateStatusRequestDto) {
-        UserEntity userEntity = this.userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("해당 회원은 존재하지 않습니다."));
+    // 비밀번호는 그대로이고 해시(cost)만 바뀌는 경우 - 토큰 무효화 없이 저장
+    public void upgradePasswordHash(UserEntity userEntity, String encodedPassword) {
+        userEntity.setPassword(encodedPassword);
+        this.userRepository.updatePasswordHash(userEntity.getUserId(), encodedPassword);
+        TransactionUtil.afterCommit(() -> this.principalCache.evict(userEntity.getUserId()));
+    }
 
+    @Transactional
+    public void updateStatus(Long userId, UpdateStatusRequestDto updateStatusRequestDto) {
         String newStatus = updateStatusRequestDto.getStatus();
         // status 값에 따라서 처리하는 로직
+        Status status;
         if ("DELETED".equals(newStatus)) {
-            userEntity.setStatus(Status.DELETED);
+            status = Status.DELETED;
         } else if ("INACTIVE".equals(newStatus)) {
-            userEntity.setStatus(Status.INACTIVE);
+            status = Status.INACTIVE;
         } else if ("ACTIVE".equals(newStatus)) {
-            userEntity.setStatus(Status.ACTIVE);
+            status = Status.ACTIVE;
         } else{
             throw new IllegalArgumentException("잘못된 상태 변경값입니다.");
         }
-        this.userRepository.save(userEntity);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedAt = status == Status.DELETED ? now : null;
+        int updated = this.userRepository.updateStatus(userId, status, deletedAt, now);
+        if (updated == 0) {
+            throw new UserNotFoundException("해당 회원은 존재하지 않습니다.");
+        }
+        evictAfterCommit(userId);   // token_epoch 는 UPDATE 문에서 함께 증가
+        // 탈퇴(DELETED)해도 user_tbl 의 행과 닉네임 unique key 는 남아 있으므로 닉네임 인덱스에서는 제거하지 않음
+    }
+
+    // 변경한 행이 커밋된 뒤에 캐시 제거 (커밋 전에 제거하면 동시 요청이 이전 상태를 다시 캐시할 수 있음)
+    private void evictAfterCommit(Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            this.principalCache.evict(userId);
+            this.tokenEpochService.evict(userId);
+        });
     }
 }
@@ -0,0 +1,65 @@
+package com.melly.timerocketserver.global.config;
+
+import com.melly.timerocketserver.global.datasource.ReplicaLagMonitor;
+import com.melly.timerocketserver.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// app.datasource.replica.enabled=true 이면 primary/replica 커넥션 풀을 따로 만들고 읽기 전용 트랜잭션을 replica 로 보냄
+// (Spring Data JPA 의 조회 메서드는 기본이 readOnly 트랜잭션이라 별도 표시 없이 replica 로 감)
+// 풀 이름(primary, replica)이 hikaricp.* 메트릭의 pool 태그로 붙음
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    // spring.datasource.* 설정을 그대로 사용
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username}") String username,
+                                              @Value("${app.datasource.replica.password}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry,
+                                               @Value("${app.datasource.replica.max-lag-seconds:2}") long maxLagSeconds,
+                                               @Value("${app.datasource.replica.lag-check-interval-ms:1000}") long lagCheckIntervalMs,
+                                               @Value("${app.datasource.replica.lag-check-enabled:true}") boolean lagCheckEnabled) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, lagCheckIntervalMs, lagCheckEnabled, meterRegistry);
+    }
+
+    // JPA, JdbcTemplate 등이 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+}
@@ -0,0 +1,111 @@
+package com.melly.timerocketserver.global.config;
+
+import com.melly.timerocketserver.domain.entity.VerificationCodeType;
+import com.melly.timerocketserver.domain.repository.InMemoryVerificationCodeStore;
+import com.melly.timerocketserver.domain.service.DeletedUserPurgeJob;
+import com.melly.timerocketserver.domain.service.EmailExistenceFilter;
+import com.melly.timerocketserver.domain.service.MailRateLimiter;
+import com.melly.timerocketserver.domain.service.NicknameIndex;
+import com.melly.timerocketserver.global.jwt.AccessTokenDenylist;
+import com.melly.timerocketserver.global.security.PasswordHashingService;
+import com.melly.timerocketserver.global.security.PrincipalCache;
+import com.melly.timerocketserver.global.util.ExpiringStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 캐시, 인덱스, 스레드 풀 등이 이미 집계하고 있는 값을 /actuator/prometheus 로 노출 (값은 scrape 할 때 읽음)
+// 요청 처리 시간 Timer 는 각 클래스(JwtFilter, CustomLoginFilter, RefreshService, MailOutboxService)에서 직접 기록
+// Hikari 커넥션 풀 메트릭(hikaricp.*)은 actuator 가 자동으로 등록
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public MeterBinder principalCacheMetrics(PrincipalCache principalCache) {
+        return registry -> {
+            FunctionCounter.builder("auth.principal.cache", principalCache, PrincipalCache::getHitCount)
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("auth.principal.cache", principalCache, PrincipalCache::getMissCount)
+                    .tag("result", "miss").register(registry);
+            FunctionCounter.builder("auth.principal.cache.evictions", principalCache, PrincipalCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("auth.principal.cache.size", principalCache, PrincipalCache::size).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder accessTokenDenylistMetrics(AccessTokenDenylist accessTokenDenylist) {
+        return registry -> Gauge.builder("auth.token.denylist.size", accessTokenDenylist, AccessTokenDenylist::size)
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService passwordHashingService) {
+        return registry -> {
+            Gauge.builder("auth.password.hashing.queue", passwordHashingService, PasswordHashingService::getQueueDepth)
+                    .description("대기 중인 BCrypt 작업 수").register(registry);
+            Gauge.builder("auth.password.hashing.active", passwordHashingService, PasswordHashingService::getActiveCount)
+                    .register(registry);
+            FunctionCounter.builder("auth.password.hashing.completed", passwordHashingService, PasswordHashingService::getCompletedCount)
+                    .register(registry);
+            FunctionCounter.builder("auth.password.hashing.rejected", passwordHashingService, PasswordHashingService::getRejectedCount)
+                    .description("대기열이 가득 차서 거절된 작업 수").register(registry);
+            FunctionCounter.builder("auth.password.hashing.latency", passwordHashingService,
+                            service -> service.getTotalLatencyNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .baseUnit("seconds").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder mailMetrics(MailRateLimiter mailRateLimiter, EmailExistenceFilter emailExistenceFilter) {
+        return registry -> {
+            FunctionCounter.builder("mail.rate.limit.rejections", mailRateLimiter, MailRateLimiter::getEmailRejectionCount)
+                    .tag("key", "email").register(registry);
+            FunctionCounter.builder("mail.rate.limit.rejections", mailRateLimiter, MailRateLimiter::getIpRejectionCount)
+                    .tag("key", "ip").register(registry);
+            FunctionCounter.builder("email.filter.checks", emailExistenceFilter, EmailExistenceFilter::getNegativeCount)
+                    .tag("result", "negative").register(registry);
+            FunctionCounter.builder("email.filter.checks", emailExistenceFilter, EmailExistenceFilter::getDbCheckCount)
+                    .tag("result", "db").register(registry);
+            FunctionCounter.builder("email.filter.false.positives", emailExistenceFilter, EmailExistenceFilter::getFalsePositiveCount)
+                    .register(registry);
+            Gauge.builder("email.filter.false.positive.rate", emailExistenceFilter, EmailExistenceFilter::getObservedFalsePositiveRate)
+                    .tag("kind", "observed").description("DB 확인 결과 없었던 비율").register(registry);
+            Gauge.builder("email.filter.false.positive.rate", emailExistenceFilter, EmailExistenceFilter::getExpectedFalsePositiveRate)
+                    .tag("kind", "expected").description("채워진 비트 수로 계산한 예상 오탐률").register(registry);
+        };
+    }
+
+    // 메모리 저장소(app.verification-store.type=memory)일 때만 종류별 크기, 용량 초과로 밀려난 수, 만료 수 기록
+    @Bean
+    public MeterBinder verificationCodeStoreMetrics(ObjectProvider<InMemoryVerificationCodeStore> verificationCodeStore) {
+        return registry -> verificationCodeStore.ifAvailable(store -> {
+            for (VerificationCodeType type : VerificationCodeType.values()) {
+                ExpiringStore<String> codes = store.getStore(type);
+                String tag = type.name().toLowerCase(Locale.ROOT);
+                Gauge.builder("verification.code.store.size", codes, ExpiringStore::size)
+                        .tag("type", tag).register(registry);
+                FunctionCounter.builder("verification.code.store.evictions", codes, ExpiringStore::getEvictionCount)
+                        .tag("type", tag).register(registry);
+                FunctionCounter.builder("verification.code.store.expirations", codes, ExpiringStore::getExpirationCount)
+                        .tag("type", tag).register(registry);
+            }
+        });
+    }
+
+    @Bean
+    public MeterBinder userMaintenanceMetrics(NicknameIndex nicknameIndex, DeletedUserPurgeJob deletedUserPurgeJob) {
+        return registry -> {
+            Gauge.builder("user.nickname.index.size", nicknameIndex, NicknameIndex::size).register(registry);
+            FunctionCounter.builder("user.purge.rows", deletedUserPurgeJob, DeletedUserPurgeJob::getPurgedTotal)
+                    .register(registry);
+            Gauge.builder("user.purge.last.rows.per.second", deletedUserPurgeJob, DeletedUserPurgeJob::getLastRunRowsPerSecond)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.melly.timerocketserver.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(만료 데이터 정리 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
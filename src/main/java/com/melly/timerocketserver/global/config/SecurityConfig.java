@@ -1,17 +1,22 @@
 package com.melly.timerocketserver.global.config;
 
-import com.melly.timerocketserver.domain.repository.UserRepository;
 import com.melly.timerocketserver.global.exception.CustomAccessDeniedHandler;
 import com.melly.timerocketserver.global.exception.CustomAuthenticationEntryPoint;
+import com.melly.timerocketserver.global.jwt.AccessTokenDenylist;
 import com.melly.timerocketserver.global.jwt.JwtFilter;
 import com.melly.timerocketserver.global.jwt.JwtUtil;
 import com.melly.timerocketserver.global.jwt.RefreshRepository;
+import com.melly.timerocketserver.global.jwt.TokenEpochService;
 import com.melly.timerocketserver.global.security.CustomLoginFilter;
 import com.melly.timerocketserver.global.security.CustomLogoutFilter;
+import com.melly.timerocketserver.global.security.PasswordHashingService;
+import com.melly.timerocketserver.global.security.PrincipalCache;
 import com.melly.timerocketserver.global.security.oauth.CustomOAuthFailureHandler;
 import com.melly.timerocketserver.global.security.oauth.CustomOAuthUserService;
 import com.melly.timerocketserver.global.security.oauth.CustomOAuthSuccessHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,8 +24,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -34,27 +37,39 @@ import java.util.Collections;
 public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final AuthenticationConfiguration authenticationConfiguration;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenEpochService tokenEpochService;
+    private final AccessTokenDenylist accessTokenDenylist;
     private final RefreshRepository refreshRepository;
     private final CustomOAuthUserService customOAuthUserService;
     private final CustomOAuthSuccessHandler customOAuthSuccessHandler;
     private final CustomOAuthFailureHandler customOAuthFailureHandler;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfig(UserRepository userRepository, RefreshRepository refreshRepository, AuthenticationConfiguration authenticationConfiguration,
+    public SecurityConfig(PrincipalCache principalCache, RefreshRepository refreshRepository, AuthenticationConfiguration authenticationConfiguration,
                           JwtUtil jwtUtil, CustomOAuthUserService customOAuth2UserService, CustomOAuthSuccessHandler customOAuthSuccessHandler,
-                          CustomOAuthFailureHandler customOAuthFailureHandler) {
-        this.userRepository = userRepository;
+                          CustomOAuthFailureHandler customOAuthFailureHandler, TokenEpochService tokenEpochService,
+                          AccessTokenDenylist accessTokenDenylist, MeterRegistry meterRegistry) {
+        this.principalCache = principalCache;
+        this.tokenEpochService = tokenEpochService;
+        this.accessTokenDenylist = accessTokenDenylist;
         this.refreshRepository = refreshRepository;
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
         this.customOAuthUserService = customOAuth2UserService;
         this.customOAuthSuccessHandler = customOAuthSuccessHandler;
         this.customOAuthFailureHandler = customOAuthFailureHandler;
+        this.meterRegistry = meterRegistry;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt 연산은 전용 스레드 풀에서 수행 (threads 가 0 이면 CPU 수)
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingService passwordEncoder(@Value("${app.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${app.password.hashing-threads:0}") int threads,
+                                                  @Value("${app.password.hashing-queue-capacity:64}") int queueCapacity,
+                                                  @Value("${app.password.hashing-timeout-ms:3000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingService(strength, poolSize, queueCapacity, timeoutMillis);
     }
 
     @Bean   // Spring Security 에서 인증을 처리하는 핵심 객체로, 사용자가 제공한 자격 증명(예: 아이디, 비밀번호)을 기반으로 인증을 수행
@@ -73,7 +88,9 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/","/api/users","/api/users/login","/api/users/logout","/api/tokens/refresh",
-                                "/api/users/duplicate-nickname/**","/api/users/profile","/api/emails/**").permitAll()
+                                "/api/users/duplicate-nickname/**","/api/users/nickname-suggestions/**","/api/users/profile","/api/emails/**").permitAll()
+                        // actuator 는 management 포트(127.0.0.1 로만 바인딩)에서만 열림
+                        .requestMatchers("/actuator/health","/actuator/prometheus").permitAll()
                         .requestMatchers("/api/admins/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .exceptionHandling((exceptions) -> {
@@ -85,16 +102,16 @@ public class SecurityConfig {
         // Spring Security 의 필터 체인에 JwtFilter 를 CustomLoginFilter 이전에 추가
         // Jwt 토큰을 사용한 인증을 CustomLoginFilter 보다 먼저 처리
         http
-                .addFilterBefore(new JwtFilter(jwtUtil,userRepository), CustomLoginFilter.class);
+                .addFilterBefore(new JwtFilter(jwtUtil, principalCache, tokenEpochService, accessTokenDenylist, meterRegistry), CustomLoginFilter.class);
 
         // 필터 추가 (UsernamePasswordAuthenticationFilter 를 CustomLoginFilter 로 갈음)
         // CustomLoginFilter()는 인자를 받음 (AuthenticationManager() 메소드에 authenticationConfiguration 객체를 넣어야 함) 따라서 등록 필요
         http
-                .addFilterAt(new CustomLoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new CustomLoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshRepository, tokenEpochService, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
         // 로그아웃 필터 추가 (스프링 시큐리티 로그아웃 필터 앞에 등록)
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository, tokenEpochService, accessTokenDenylist), LogoutFilter.class);
 
         // oauth2
         http
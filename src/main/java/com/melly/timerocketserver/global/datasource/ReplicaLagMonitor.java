@@ -0,0 +1,108 @@
+package com.melly.timerocketserver.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// replica 복제 지연을 주기적으로 확인 (MySQL 8.0.22 이상의 SHOW REPLICA STATUS)
+// 지연이 max-lag-seconds 를 넘거나, 복제가 멈췄거나(Seconds_Behind_Source 가 NULL), 조회에 실패하면 사용 불가로 표시
+// 복제 설정이 없는 서버(결과 행 없음, 로컬에서 primary 를 replica 로 지정한 경우 등)는 지연 0 으로 취급
+// 첫 확인 전에는 사용 불가 상태라 읽기도 primary 로 감
+// 다른 @Scheduled 작업에 밀려 확인이 늦어지지 않도록 전용 스레드에서 실행하고,
+// 마지막 성공한 확인이 check-interval 의 2배보다 오래되면 결과를 믿지 않고 사용 불가로 판단
+@Slf4j
+public class ReplicaLagMonitor {
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagSeconds;
+    private final long checkIntervalMs;
+    private final boolean enabled;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean lastCheckAvailable;
+    private volatile long lastCheckNanos;
+    private volatile long lagSeconds = -1;    // -1: 알 수 없음
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, long checkIntervalMs, boolean enabled,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.jdbcTemplate.setQueryTimeout(2);
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = checkIntervalMs;
+        this.enabled = enabled;
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("replica 복제 지연 (-1: 알 수 없음)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        if (enabled) {
+            // 예외가 새면 이후 실행이 멈추므로 여기서 삼킴 (멈추더라도 isAvailable 은 오래된 결과로 보고 false)
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    check();
+                } catch (RuntimeException e) {
+                    log.warn("replica 지연 확인 실패", e);
+                }
+            }, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+        Long lag;
+        try {
+            lag = jdbcTemplate.query("SHOW REPLICA STATUS", rs -> {
+                if (!rs.next()) {
+                    return 0L;
+                }
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : seconds;
+            });
+        } catch (DataAccessException e) {
+            log.debug("replica 상태 조회 실패", e);
+            lag = null;
+        }
+        lagSeconds = lag == null ? -1 : lag;
+        boolean nowAvailable = lag != null && lag <= maxLagSeconds;
+        if (nowAvailable != lastCheckAvailable) {
+            if (nowAvailable) {
+                log.info("replica 사용 재개 (지연 {}초)", lag);
+            } else {
+                log.warn("replica 사용 중단, 읽기도 primary 로 보냄 (지연: {})", lag == null ? "알 수 없음" : lag + "초");
+            }
+        }
+        lastCheckNanos = System.nanoTime();
+        lastCheckAvailable = nowAvailable;
+    }
+
+    // 확인을 끄면 항상 사용
+    public boolean isAvailable() {
+        if (!enabled) {
+            return true;
+        }
+        return lastCheckAvailable && System.nanoTime() - lastCheckNanos <= TimeUnit.MILLISECONDS.toNanos(checkIntervalMs * 2);
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,55 @@
+package com.melly.timerocketserver.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// @Transactional(readOnly = true) 안에서 얻는 커넥션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary 로 보냄
+// readOnly 여부는 트랜잭션 시작 후에 설정되므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 실행 시점에 커넥션을 얻어야 함
+// replica 지연이 크거나 연결할 수 없으면(ReplicaLagMonitor) 읽기도 primary 로 보냄
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryCount;
+    private final Counter replicaCount;
+    private final Counter fallbackCount;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryCount = routingCounter(meterRegistry, "primary");
+        this.replicaCount = routingCounter(meterRegistry, "replica");
+        this.fallbackCount = routingCounter(meterRegistry, "fallback");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCount.increment();
+            return Target.PRIMARY;
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            fallbackCount.increment();
+            return Target.PRIMARY;
+        }
+        replicaCount.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("db.routing")
+                .description("커넥션을 보낸 DB (fallback: 읽기 전용이지만 replica 상태 때문에 primary 사용)")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @ControllerAdvice   // 컨트롤러 실행 중 발생하는 예외를 잡음, 모든 요청에서 가로챔
@@ -47,6 +48,13 @@ public class GlobalExceptionHandler implements ResponseController {
         return makeResponseEntity(HttpStatus.BAD_REQUEST, errorMessage, null);
     }
 
+    // @RequestParam, @PathVariable 타입 변환 실패 (예: 존재하지 않는 enum 값)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ResponseDto> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        log.error("400 Error : " + e.getMessage());
+        return makeResponseEntity(HttpStatus.BAD_REQUEST, e.getName() + " 값이 올바르지 않습니다.", null);
+    }
+
     // 사용자 정의 예외
     @ExceptionHandler(DuplicateNicknameException.class)
     public ResponseEntity<ResponseDto> handleDuplicateNickname(DuplicateNicknameException e) {
@@ -61,6 +69,20 @@ public class GlobalExceptionHandler implements ResponseController {
         return makeResponseEntity(HttpStatus.NOT_FOUND, e.getMessage(), null);
     }
 
+    // 비밀번호 해시 작업 대기열이 가득 찬 경우 (무한정 대기하지 않고 바로 503)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ResponseDto> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        log.error("503 Error : " + e.getMessage());
+        return makeResponseEntity(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null);
+    }
+
+    // 요청 횟수 제한을 넘은 경우
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ResponseDto> handleTooManyRequests(TooManyRequestsException e) {
+        log.warn("429 Error : " + e.getMessage());
+        return makeResponseEntity(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), null);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ResponseDto> handleException(Exception e) {
         log.error("500 Error : " + e.getMessage());
@@ -0,0 +1,7 @@
+package com.melly.timerocketserver.global.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.melly.timerocketserver.global.jwt;
+
+import com.melly.timerocketserver.global.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 만료 전에 로그아웃한 access 토큰 목록 (메모리, DB 조회 없음)
+// Bloom filter 로 대부분의 정상 토큰을 바로 통과시키고, 있을 수도 있는 경우에만 정확한 Map 을 확인
+// Bloom filter 는 삭제가 안 되므로 access 토큰 유효기간(window) 단위로 current/previous 두 세대를 교체하며 사용
+@Component
+public class AccessTokenDenylist {
+    private final long windowMillis;
+    private final long expectedInsertions;
+    private final Map<String, Long> deniedTokens = new ConcurrentHashMap<>();    // 토큰 서명 -> 토큰 만료 시각
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long generationStartedAt;
+
+    public AccessTokenDenylist(@Value("${app.jwt.denylist-window-ms:600000}") long windowMillis,
+                               @Value("${app.jwt.denylist-expected-insertions:10000}") long expectedInsertions) {
+        this.windowMillis = windowMillis;
+        this.expectedInsertions = expectedInsertions;
+        this.current = new BloomFilter(expectedInsertions, 0.01);
+        this.previous = new BloomFilter(expectedInsertions, 0.01);
+        this.generationStartedAt = System.currentTimeMillis();
+    }
+
+    // 로그아웃한 access 토큰 등록 (토큰 만료 시각까지만 유지)
+    public void add(String accessToken, long expiresAt) {
+        rotateIfNeeded(System.currentTimeMillis());
+        String key = keyOf(accessToken);
+        deniedTokens.put(key, expiresAt);
+        current.put(key);
+    }
+
+    public boolean isDenied(String accessToken) {
+        long now = System.currentTimeMillis();
+        rotateIfNeeded(now);
+        String key = keyOf(accessToken);
+        if (!current.mightContain(key) && !previous.mightContain(key)) {
+            return false;
+        }
+        Long expiresAt = deniedTokens.get(key);
+        return expiresAt != null && expiresAt > now;
+    }
+
+    public int size() {
+        return deniedTokens.size();
+    }
+
+    // window 가 지나면 세대 교체 - previous 에 있던 토큰은 이미 모두 만료된 상태
+    private void rotateIfNeeded(long now) {
+        if (now - generationStartedAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now - generationStartedAt < windowMillis) {
+                return;
+            }
+            previous = current;
+            current = new BloomFilter(expectedInsertions, 0.01);
+            generationStartedAt = now;
+            deniedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+    }
+
+    // 토큰마다 고유한 서명 부분을 키로 사용 (추가 해시 계산 불필요)
+    private String keyOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+}
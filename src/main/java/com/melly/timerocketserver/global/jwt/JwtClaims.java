@@ -0,0 +1,33 @@
+package com.melly.timerocketserver.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+// 서명 검증을 한 번만 수행한 뒤 꺼낸 토큰 정보 (불변 객체)
+// 필터/서비스는 토큰 문자열을 여러 번 파싱하지 않고 이 객체 하나로 category, username, role, 만료 시각을 확인
+@Getter
+public class JwtClaims {
+    private final String category;
+    private final String username;
+    private final String role;
+    private final long expiresAt;   // 만료 시각 (epoch millis)
+
+    // stateless 모드로 발급된 토큰에만 존재 (그 외에는 null)
+    private final Long userId;
+    private final String status;
+    private final Integer epoch;
+
+    JwtClaims(Claims claims) {
+        this.category = claims.get("category", String.class);
+        this.username = claims.get("username", String.class);
+        this.role = claims.get("role", String.class);
+        this.expiresAt = claims.getExpiration().getTime();
+        this.userId = claims.get("userId", Long.class);
+        this.status = claims.get("status", String.class);
+        this.epoch = claims.get("epoch", Integer.class);
+    }
+
+    public boolean isExpired() {
+        return expiresAt < System.currentTimeMillis();
+    }
+}
@@ -1,9 +1,13 @@
 package com.melly.timerocketserver.global.jwt;
 
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
 import com.melly.timerocketserver.domain.entity.UserEntity;
 import com.melly.timerocketserver.global.security.CustomUserDetails;
-import com.melly.timerocketserver.domain.repository.UserRepository;
+import com.melly.timerocketserver.global.security.PrincipalCache;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
 
 // Spring Security 필터 체인에서 Jwt 인증을 수행하는 핵심 필터입니다.
 // 요청이 들어올 때마다 실행되며, 유효한 Access Token 이 포함되어 있는지 확인하고, 있다면 이를 기반으로 SecurityContext 에 인증 정보를 등록
@@ -24,11 +29,32 @@ public class JwtFilter extends OncePerRequestFilter {
     // OncePerRequestFilter 는 Spring Framework 에서 제공하는 추상 클래스로, 하나의 요청(request)당 딱 한 번만 실행되는 필터
     // JWT 검증 로직은 인증이 필요한 요청이 들어올 때마다 확실히 한 번만 실행되도록 보장
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
-
-    public JwtFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    private final PrincipalCache principalCache;
+    private final TokenEpochService tokenEpochService;
+    private final AccessTokenDenylist accessTokenDenylist;
+    // 토큰 검증(denylist, 서명, 만료, 카테고리) 시간은 결과별로, 인증 정보 조회 시간은 캐시/토큰 여부별로 기록
+    // 요청마다 registry 를 조회하지 않도록 생성 시 한 번만 등록
+    private final Timer validationValid;
+    private final Timer validationExpired;
+    private final Timer validationInvalid;
+    private final Timer validationDenied;
+    private final Timer validationRevoked;
+    private final Timer principalFromCache;
+    private final Timer principalFromToken;
+
+    public JwtFilter(JwtUtil jwtUtil, PrincipalCache principalCache, TokenEpochService tokenEpochService,
+                     AccessTokenDenylist accessTokenDenylist, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenEpochService = tokenEpochService;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.validationValid = validationTimer(meterRegistry, "valid");
+        this.validationExpired = validationTimer(meterRegistry, "expired");
+        this.validationInvalid = validationTimer(meterRegistry, "invalid");
+        this.validationDenied = validationTimer(meterRegistry, "denied");
+        this.validationRevoked = validationTimer(meterRegistry, "revoked");
+        this.principalFromCache = principalLookupTimer(meterRegistry, "cache");
+        this.principalFromToken = principalLookupTimer(meterRegistry, "token");
     }
 
     @Override
@@ -52,9 +78,31 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
+        long validationStart = System.nanoTime();
+
+        // 로그아웃한 토큰인지 확인 (메모리에서 O(1), 서명 검증 전에 거름)
+        if (accessTokenDenylist.isDenied(accessToken)) {
+            log.error("Logged out JWT token");
+            record(validationDenied, validationStart);
+
+            response.getWriter().print("logged out access token");
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        // 서명 검증과 파싱은 한 번만 수행
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseClaims(accessToken);
+        } catch (RuntimeException e) {
+            record(validationInvalid, validationStart);
+            throw e;
+        }
+
         // 토큰 만료 여부 확인
-        if (jwtUtil.isExpired(accessToken)) {
+        if (claims.isExpired()) {
             log.error("Expired JWT token");
+            record(validationExpired, validationStart);
 
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             filterChain.doFilter(request, response); // 필터 체인은 그대로 진행 (다음 필터에서 처리할 수 있게)
@@ -62,10 +110,9 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 토큰의 종류가 access 인지 검증 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("access")) {
+        if (!"access".equals(claims.getCategory())) {
             log.error("Invalid JWT token");
+            record(validationInvalid, validationStart);
 
             // response body
             PrintWriter writer = response.getWriter();
@@ -77,9 +124,34 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // username 값 획득
-        String username = jwtUtil.getUsername(accessToken);
-
-        UserEntity user = this.userRepository.findByEmailOrNickname(username,username);
+        String username = claims.getUsername();
+
+        UserEntity user;
+        long lookupStart = System.nanoTime();
+        if (tokenEpochService.isStateless() && claims.getUserId() != null) {
+            // stateless 모드: 토큰에 담긴 정보만으로 인증 (DB 조회 없음), 무효화된 토큰만 거부
+            if (tokenEpochService.isRevoked(claims.getUserId(), claims.getEpoch())) {
+                log.error("Revoked JWT token");
+                record(validationRevoked, validationStart);
+
+                response.getWriter().print("revoked access token");
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            user = UserEntity.builder()
+                    .userId(claims.getUserId())
+                    .email(username)
+                    .role(Role.fromDescription(claims.getRole()))
+                    .status(Status.valueOf(claims.getStatus()))
+                    .build();
+            record(validationValid, validationStart);
+            record(principalFromToken, lookupStart);
+        } else {
+            record(validationValid, validationStart);
+            // 캐시에 없을 때만 DB 조회
+            user = this.principalCache.getOrLoad(username);
+            record(principalFromCache, lookupStart);
+        }
 
         CustomUserDetails customUserDetails = new CustomUserDetails(user);
 
@@ -88,4 +160,22 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt.validation")
+                .description("access token 검증 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer principalLookupTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("auth.principal.lookup")
+                .description("인증 사용자 정보 조회 시간 (cache: PrincipalCache/DB, token: stateless 토큰)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
 }
@@ -1,5 +1,7 @@
 package com.melly.timerocketserver.global.jwt;
 
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -8,38 +10,46 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;  // JwtParser 는 불변/스레드 안전하므로 한 번만 만들어 재사용
 
     public JwtUtil(@Value("${spring.jwt.secret}")String secret) {
         // String 타입의 secret 을 객체변수(secretKey) 로 암호화
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    public String getCategory(String token){
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
-    }
-
-    public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
-    }
-
-    public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-    }
-
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+    // 서명 검증 + 파싱을 한 번만 수행하고 필요한 값을 모두 담아 반환
+    // 만료된 토큰은 기존과 동일하게 ExpiredJwtException 이 발생
+    public JwtClaims parseClaims(String token) {
+        return new JwtClaims(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     // Jwt 생성
     public String createJwt(String category, String username, String role, Long expiredMs){
-        return Jwts.builder()
+        return createJwt(category, username, role, null, null, null, expiredMs);
+    }
+
+    // epoch 가 있으면 (stateless 모드) DB 조회 없이 인증할 수 있도록 userId, status, epoch 도 함께 담음
+    public String createJwt(String category, String username, String role, Long userId, String status, Integer epoch, Long expiredMs){
+        JwtBuilder builder = Jwts.builder()
                 .claim("category",category)
                 .claim("username",username)
-                .claim("role",role)
+                .claim("role",role);
+        if (epoch != null) {
+            builder.claim("userId", userId)
+                    .claim("status", status)
+                    .claim("epoch", epoch);
+        }
+        // refresh 토큰은 해시를 unique key 로 저장하므로, 같은 사용자가 같은 초에 로그인해도 토큰이 겹치지 않도록 jti 추가
+        if ("refresh".equals(category)) {
+            builder.id(UUID.randomUUID().toString());
+        }
+        return builder
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
                 .signWith(secretKey)
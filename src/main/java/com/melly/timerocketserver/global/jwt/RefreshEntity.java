@@ -1,8 +1,12 @@
 package com.melly.timerocketserver.global.jwt;
 
+import com.melly.timerocketserver.global.util.HashUtil;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -17,10 +21,18 @@ public class RefreshEntity {
 
     private String username;
 
-    @Column(name="refresh_token")
-    private String refreshToken;
+    // 원본 토큰 대신 SHA-256 해시(64자)를 저장 (unique index)
+    @Column(name="token_hash")
+    private String tokenHash;
 
-    @Column(name="token_expiration")
-    private String tokenExpiration;
+    @Column(name="expires_at")
+    private LocalDateTime expiresAt;
 
+    public static RefreshEntity of(String username, String refreshToken, long expiredMs) {
+        return RefreshEntity.builder()
+                .username(username)
+                .tokenHash(HashUtil.sha256Hex(refreshToken))
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(expiredMs)))
+                .build();
+    }
 }
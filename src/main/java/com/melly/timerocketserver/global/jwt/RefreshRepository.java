@@ -1,15 +1,30 @@
 package com.melly.timerocketserver.global.jwt;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
+// refresh 토큰은 해시(HashUtil.sha256Hex)로 조회
 public interface RefreshRepository extends JpaRepository<RefreshEntity, Long> {
-    Optional<RefreshEntity> findByRefreshToken(String refreshToken);
-    Boolean existsByRefreshToken(String refresh_token);
+    // 로그아웃 - 엔티티 조회 없이 DELETE 한 번으로 삭제하고 삭제된 행 수 반환
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshEntity r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
+    // 토큰 교체 (재발급) - 조회 없이 UPDATE 한 번으로 처리하고 변경된 행 수 반환
+    @Modifying
     @Transactional
-    void deleteByRefreshToken(String refresh_token);
+    @Query("update RefreshEntity r set r.tokenHash = :newHash, r.expiresAt = :expiresAt where r.tokenHash = :oldHash")
+    int rotateToken(@Param("oldHash") String oldHash, @Param("newHash") String newHash, @Param("expiresAt") LocalDateTime expiresAt);
 
+    // 만료된 토큰을 최대 limit 개만 삭제 (한 번에 많은 행을 잠그지 않도록 나눠서 호출)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tbl WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -2,14 +2,18 @@ package com.melly.timerocketserver.global.jwt;
 
 import com.melly.timerocketserver.global.exception.JwtException;
 import com.melly.timerocketserver.global.util.CookieUtil;
+import com.melly.timerocketserver.global.util.HashUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -17,50 +21,80 @@ public class RefreshService {
 
     private final JwtUtil jwtUtil;
     private final RefreshRepository refreshRepository;
+    private final TokenEpochService tokenEpochService;
+    private final ReissueCoalescer reissueCoalescer;
+    private final Timer reissueSuccess;
+    private final Timer reissueFailure;
 
-    public RefreshService(JwtUtil jwtUtil, RefreshRepository refreshRepository) {
+    public RefreshService(JwtUtil jwtUtil, RefreshRepository refreshRepository, TokenEpochService tokenEpochService,
+                          ReissueCoalescer reissueCoalescer, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
         this.refreshRepository = refreshRepository;
+        this.tokenEpochService = tokenEpochService;
+        this.reissueCoalescer = reissueCoalescer;
+        this.reissueSuccess = reissueTimer(meterRegistry, "success");
+        this.reissueFailure = reissueTimer(meterRegistry, "failure");
     }
 
-    @Transactional
+    // 재발급 시간을 성공/실패로 나눠서 기록
     public void reissueToken(HttpServletRequest request, HttpServletResponse response) {
+        long start = System.nanoTime();
+        try {
+            reissue(request, response);
+            reissueSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            reissueFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    // 트랜잭션은 토큰 교체 UPDATE 한 건에만 필요하므로 메서드 전체를 묶지 않음
+    private void reissue(HttpServletRequest request, HttpServletResponse response) {
         // 1. 쿠키에서 refresh 토큰 추출
         String refresh_token = extractRefreshTokenFromCookie(request);
         if (refresh_token == null) throw new JwtException("refresh token null");
 
-        // 2. 만료 확인
-        if (jwtUtil.isExpired(refresh_token)) {
+        // 2. 서명 검증은 한 번만 수행하고 만료 확인
+        JwtClaims claims = jwtUtil.parseClaims(refresh_token);
+        if (claims.isExpired()) {
             throw new JwtException("refresh token expired");
         }
 
         // 3. 카테고리 확인
-        if (!"refresh".equals(jwtUtil.getCategory(refresh_token))) {
+        if (!"refresh".equals(claims.getCategory())) {
             throw new JwtException("invalid refresh token");
         }
 
-        // 4. DB 존재 확인 및 엔티티 조회
-        RefreshEntity refreshEntity = refreshRepository.findByRefreshToken(refresh_token)
-                .orElseThrow(() -> new JwtException("refresh token not found in repository"));
-
+        // stateless 모드로 발급된 토큰이면 무효화 여부 확인 (비밀번호/상태 변경, 로그아웃 이후의 토큰 거부)
+        if (claims.getEpoch() != null && tokenEpochService.isRevoked(claims.getUserId(), claims.getEpoch())) {
+            throw new JwtException("refresh token revoked");
+        }
 
-        // 5. 사용자 정보 추출
-        String username = jwtUtil.getUsername(refresh_token);
-        String role = jwtUtil.getRole(refresh_token);
+        // 4. 같은 refresh 토큰으로 동시에 들어온 요청은 한 번만 재발급하고 같은 결과를 공유
+        String tokenHash = HashUtil.sha256Hex(refresh_token);
+        TokenPair tokens = reissueCoalescer.execute(tokenHash, () -> rotate(claims, tokenHash));
 
-        // 6. 토큰 재발급
-        String newAccess = jwtUtil.createJwt("access", username, role, 600000L);
-        String newRefresh = jwtUtil.createJwt("refresh", username, role, 86400000L);
+        // 5. 응답 세팅
+        response.setHeader("Authorization", tokens.getAccessToken());
+        response.addCookie(CookieUtil.createCookie("refresh", tokens.getRefreshToken()));
+    }
 
-        // 7. 기존 엔티티 수정 (delete + save 아님)
-        refreshEntity.setRefreshToken(newRefresh);
-        refreshEntity.setTokenExpiration(new Date(System.currentTimeMillis() + 86400000L).toString());
-        refreshRepository.save(refreshEntity); // 실제로는 save 안 해도 Dirty Checking으로 update됨
+    // 새 토큰 쌍을 서명하고 DB 의 토큰을 UPDATE 한 번으로 교체
+    private TokenPair rotate(JwtClaims claims, String tokenHash) {
+        String username = claims.getUsername();
+        String role = claims.getRole();
+        Integer epoch = tokenEpochService.epochForIssue(claims.getUserId());
 
+        String newAccess = jwtUtil.createJwt("access", username, role, claims.getUserId(), claims.getStatus(), epoch, 600000L);
+        String newRefresh = jwtUtil.createJwt("refresh", username, role, claims.getUserId(), claims.getStatus(), epoch, 86400000L);
 
-        // 8. 응답 세팅
-        response.setHeader("Authorization", newAccess);
-        response.addCookie(CookieUtil.createCookie("refresh", newRefresh));
+        // 조회 없이 바로 교체 (변경된 행이 없으면 DB 에 없는 토큰)
+        int updated = refreshRepository.rotateToken(tokenHash, HashUtil.sha256Hex(newRefresh),
+                LocalDateTime.now().plus(Duration.ofMillis(86400000L)));
+        if (updated == 0) {
+            throw new JwtException("refresh token not found in repository");
+        }
+        return new TokenPair(newAccess, newRefresh);
     }
 
     private String extractRefreshTokenFromCookie(HttpServletRequest request) {
@@ -74,4 +108,11 @@ public class RefreshService {
         }
         return null;
     }
+
+    private static Timer reissueTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.token.reissue")
+                .description("refresh 토큰으로 토큰 재발급 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,42 @@
+package com.melly.timerocketserver.global.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 만료된 refresh 토큰을 주기적으로 삭제하는 작업
+// 한 번에 batch-size 개씩 삭제하고 매번 커밋하여 테이블 잠금을 짧게 유지
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+    private final RefreshRepository refreshRepository;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public RefreshTokenPurgeJob(RefreshRepository refreshRepository,
+                                @Value("${app.refresh-token.purge-batch-size:1000}") int batchSize,
+                                @Value("${app.refresh-token.purge-max-batches:100}") int maxBatches) {
+        this.refreshRepository = refreshRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${app.refresh-token.purge-interval-ms:600000}")
+    public void purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int deleted = refreshRepository.deleteExpired(now, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("만료된 refresh 토큰 {}건 삭제", total);
+        }
+    }
+}
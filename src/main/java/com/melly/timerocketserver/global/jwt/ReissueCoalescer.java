@@ -0,0 +1,96 @@
+package com.melly.timerocketserver.global.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 같은 refresh 토큰으로 동시에 들어온 재발급 요청을 하나로 합치는 역할 (여러 탭에서 동시에 만료되는 경우)
+// 처음 들어온 요청만 실제로 토큰을 서명하고 DB 를 갱신하며, 나머지 요청은 그 결과(같은 토큰 쌍)를 그대로 받음
+// 완료 후 grace-ms 동안은 뒤늦게 도착한 요청에도 같은 결과를 돌려줌
+// 나머지 요청은 최대 wait-ms 까지만 기다림 (처음 요청이 끝나지 않아도 요청 스레드가 묶여 있지 않도록)
+@Component
+public class ReissueCoalescer {
+    private final long graceMillis;
+    private final long waitMillis;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private static class Flight {
+        final CompletableFuture<TokenPair> result = new CompletableFuture<>();
+        volatile long completedAt;  // 0 이면 진행 중
+
+        boolean isStale(long now, long graceMillis) {
+            return completedAt != 0 && now - completedAt > graceMillis;
+        }
+    }
+
+    public ReissueCoalescer(@Value("${app.refresh-token.reissue-grace-ms:5000}") long graceMillis,
+                            @Value("${app.refresh-token.reissue-wait-ms:3000}") long waitMillis) {
+        this.graceMillis = graceMillis;
+        this.waitMillis = waitMillis;
+    }
+
+    // key(기존 refresh 토큰 해시) 단위로 reissue 를 한 번만 실행
+    public TokenPair execute(String key, Supplier<TokenPair> reissue) {
+        while (true) {
+            Flight flight = new Flight();
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(key, flight, reissue);
+            }
+            if (existing.isStale(System.currentTimeMillis(), graceMillis)) {
+                flights.remove(key, existing);
+                continue;
+            }
+            return await(existing);
+        }
+    }
+
+    private TokenPair lead(String key, Flight flight, Supplier<TokenPair> reissue) {
+        try {
+            TokenPair tokens = reissue.get();
+            flight.completedAt = System.currentTimeMillis();
+            flight.result.complete(tokens);
+            return tokens;
+        } catch (Throwable e) {
+            // 실패한 결과는 보관하지 않음 (대기 중인 요청에만 같은 예외 전달)
+            // Error 나 검사 예외가 빠져나가도 대기 중인 요청이 풀리도록 모든 예외에서 완료 처리
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private TokenPair await(Flight flight) {
+        try {
+            return flight.result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("토큰 재발급에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("토큰 재발급 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("토큰 재발급 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    // grace 기간이 지난 결과 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictCompleted() {
+        long now = System.currentTimeMillis();
+        flights.values().removeIf(flight -> flight.isStale(now, graceMillis));
+    }
+}
@@ -0,0 +1,91 @@
+package com.melly.timerocketserver.global.jwt;
+
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// stateless 인증 모드에서 회원별 토큰 epoch(무효화 카운터)를 관리
+// 토큰 발급 시점의 epoch 를 토큰에 담고, 검증 시 현재 epoch 보다 작으면 무효화된 토큰으로 판단
+// 현재 epoch 는 메모리에 보관하고 일정 시간(epoch-refresh-seconds)이 지나면 DB 에서 다시 읽어 다른 서버의 변경도 반영
+@Service
+public class TokenEpochService {
+    private final UserRepository userRepository;
+    private final boolean stateless;
+    private final long refreshMillis;
+    private final int maxEntries;
+    private final Map<Long, EpochEntry> epochMap = new ConcurrentHashMap<>();
+
+    private static class EpochEntry {
+        final int epoch;
+        final long loadedAt;
+        EpochEntry(int epoch, long loadedAt) {
+            this.epoch = epoch;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    public TokenEpochService(UserRepository userRepository,
+                             @Value("${app.jwt.stateless:false}") boolean stateless,
+                             @Value("${app.jwt.epoch-refresh-seconds:5}") long refreshSeconds,
+                             @Value("${app.jwt.epoch-cache-max-size:100000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.stateless = stateless;
+        this.refreshMillis = refreshSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    // 토큰 발급 시 담을 epoch (stateless 모드가 아니면 null -> 기존 형식의 토큰 발급)
+    public Integer epochForIssue(Long userId) {
+        if (!stateless || userId == null) {
+            return null;
+        }
+        return currentEpoch(userId);
+    }
+
+    // 토큰의 epoch 가 현재 epoch 보다 작으면 무효화된 토큰
+    public boolean isRevoked(Long userId, Integer tokenEpoch) {
+        return tokenEpoch == null || tokenEpoch < currentEpoch(userId);
+    }
+
+    // 비밀번호/상태 변경, 로그아웃 시 호출하여 해당 회원의 기존 토큰을 모두 무효화
+    public void revoke(Long userId) {
+        if (!stateless || userId == null) {
+            return;
+        }
+        userRepository.incrementTokenEpoch(userId);
+        epochMap.remove(userId);    // 다음 검증 시 DB 에서 새 값을 읽음
+    }
+
+    // token_epoch 를 다른 UPDATE 문에서 함께 증가시킨 경우 메모리의 epoch 만 버림
+    public void evict(Long userId) {
+        epochMap.remove(userId);
+    }
+
+    private int currentEpoch(Long userId) {
+        long now = System.currentTimeMillis();
+        EpochEntry entry = epochMap.get(userId);
+        if (entry != null && now - entry.loadedAt < refreshMillis) {
+            return entry.epoch;
+        }
+
+        Integer epoch = userRepository.findTokenEpochByUserId(userId);
+        // 탈퇴 등으로 회원이 없으면 어떤 토큰도 통과하지 못하도록 최댓값 사용
+        int value = epoch != null ? epoch : Integer.MAX_VALUE;
+
+        if (epochMap.size() >= maxEntries) {
+            epochMap.entrySet().removeIf(e -> now - e.getValue().loadedAt >= refreshMillis);
+            if (epochMap.size() >= maxEntries) {
+                epochMap.clear();
+            }
+        }
+        epochMap.put(userId, new EpochEntry(value, now));
+        return value;
+    }
+}
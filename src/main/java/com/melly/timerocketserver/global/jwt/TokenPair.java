@@ -0,0 +1,12 @@
+package com.melly.timerocketserver.global.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 재발급된 access / refresh 토큰 쌍
+@Getter
+@AllArgsConstructor
+public class TokenPair {
+    private final String accessToken;
+    private final String refreshToken;
+}
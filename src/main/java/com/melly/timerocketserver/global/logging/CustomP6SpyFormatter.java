@@ -2,33 +2,113 @@ package com.melly.timerocketserver.global.logging;
 
 import com.p6spy.engine.logging.Category;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.stream;
 
+// p6spy 가 직접 생성하는 클래스라 Spring 설정은 P6SpyFormatterConfigurer 가 static 으로 주입
+// debug 모드(기본): 모든 SQL 을 정렬해서 호출 스택과 함께 출력
+// production 모드: 느린 SQL(slow-threshold-ms 이상)과 sample-rate 비율만 한 줄로 출력하고, 호출 위치는 출력할 때만 StackWalker 로 수집
+// 두 모드 모두 prepared SQL(? 형태) 별 실행 시간을 Timer(db.statement) 로 기록
 public class CustomP6SpyFormatter implements MessageFormattingStrategy {
     private static final String NEW_LINE = System.lineSeparator();
     private static final String P6SPY_FORMATTER = "P6spyPrettySqlFormatter";
     private static final String PACKAGE = "io.p6spy";
+    private static final String APP_PACKAGE = "com.melly.timerocketserver";
     private static final String CREATE = "create";
     private static final String ALTER = "alter";
     private static final String COMMENT = "comment";
+    private static final String OTHER_STATEMENT = "other";
+    private static final int STATEMENT_TAG_MAX_LENGTH = 200;
+    // IN (?, ?, ?) 처럼 개수만 다른 SQL 은 같은 SQL 로 집계
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static volatile boolean productionMode = false;
+    private static volatile double sampleRate = 0.0;
+    private static volatile long slowThresholdMs = 500;
+    private static volatile int maxStatements = 500;
+    private static volatile MeterRegistry meterRegistry = Metrics.globalRegistry;
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public static void configure(boolean productionMode, double sampleRate, long slowThresholdMs, int maxStatements,
+                                 MeterRegistry meterRegistry) {
+        CustomP6SpyFormatter.productionMode = productionMode;
+        CustomP6SpyFormatter.sampleRate = sampleRate;
+        CustomP6SpyFormatter.slowThresholdMs = slowThresholdMs;
+        CustomP6SpyFormatter.maxStatements = maxStatements;
+        CustomP6SpyFormatter.meterRegistry = meterRegistry;
+        timers.clear();
+    }
 
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
-        return sqlFormatToUpper(sql, category, getMessage(connectionId, elapsed, getStackBuilder()));
+        if (Objects.isNull(sql) || sql.isBlank()) {
+            return "";
+        }
+        recordLatency(category, prepared, sql, elapsed);
+        if (!productionMode) {
+            return sqlFormatToUpper(sql, category, getMessage(connectionId, elapsed, getStackBuilder()));
+        }
+        // 출력하지 않을 SQL 은 포맷, 호출 스택 수집 없이 바로 반환 (빈 메시지는 SkipEmptySlf4JLogger 가 출력하지 않음)
+        boolean slow = elapsed >= slowThresholdMs;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return "";
+        }
+        return (slow ? "[SLOW] " : "") + "| " + elapsed + " ms | connection " + connectionId + " | "
+                + WHITESPACE.matcher(sql.trim()).replaceAll(" ") + " | " + getCaller();
     }
 
-    private String sqlFormatToUpper(String sql, String category, String message) {
-        if (Objects.isNull(sql.trim()) || sql.trim().isEmpty()) {
-            return "";
+    private void recordLatency(String category, String prepared, String sql, long elapsed) {
+        String statement = normalize(prepared != null && !prepared.isBlank() ? prepared : sql);
+        Timer timer = timers.get(statement);
+        if (timer == null) {
+            // SQL 종류가 너무 많아지면 메트릭 수가 무한히 늘지 않도록 other 로 묶음
+            if (timers.size() >= maxStatements) {
+                statement = OTHER_STATEMENT;
+            }
+            timer = timers.computeIfAbsent(statement, key -> Timer.builder("db.statement")
+                    .description("prepared SQL 별 실행 시간")
+                    .tag("statement", key)
+                    .tag("category", category)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
+        timer.record(elapsed, TimeUnit.MILLISECONDS);
+    }
+
+    private String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(IN_LIST.matcher(sql.trim()).replaceAll("(?)")).replaceAll(" ");
+        return normalized.length() > STATEMENT_TAG_MAX_LENGTH ? normalized.substring(0, STATEMENT_TAG_MAX_LENGTH) : normalized;
+    }
+
+    // 우리 코드에서 SQL 을 실행한 가장 가까운 위치 3개 (Throwable 전체 스택을 만들지 않고 필요한 프레임만 탐색)
+    private String getCaller() {
+        List<String> frames = StackWalker.getInstance().walk(stream -> stream
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(CustomP6SpyFormatter.class.getPackageName()))
+                .limit(3)
+                .map(frame -> frame.getClassName().substring(APP_PACKAGE.length() + 1) + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .toList());
+        return frames.isEmpty() ? "-" : String.join(" <- ", frames);
+    }
+
+    private String sqlFormatToUpper(String sql, String category, String message) {
         return new StringBuilder()
                 .append(NEW_LINE)
                 .append(sqlFormatToUpper(sql, category))
@@ -98,4 +178,3 @@ public class CustomP6SpyFormatter implements MessageFormattingStrategy {
         return charSequence -> charSequence.startsWith(PACKAGE) && !charSequence.contains(P6SPY_FORMATTER);
     }
 }
-
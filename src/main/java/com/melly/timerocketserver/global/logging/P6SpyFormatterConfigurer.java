@@ -0,0 +1,21 @@
+package com.melly.timerocketserver.global.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// CustomP6SpyFormatter 는 p6spy 가 spy.properties 로 직접 생성하므로 Spring 빈이 아님
+// 서버 시작 시 app.sql-log 설정과 MeterRegistry 를 static 으로 넘겨줌
+@Component
+public class P6SpyFormatterConfigurer {
+    public P6SpyFormatterConfigurer(ObjectProvider<MeterRegistry> meterRegistry,
+                                    @Value("${app.sql-log.mode:debug}") String mode,
+                                    @Value("${app.sql-log.sample-rate:0.0}") double sampleRate,
+                                    @Value("${app.sql-log.slow-threshold-ms:500}") long slowThresholdMs,
+                                    @Value("${app.sql-log.max-statements:500}") int maxStatements) {
+        CustomP6SpyFormatter.configure("production".equalsIgnoreCase(mode), sampleRate, slowThresholdMs, maxStatements,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,28 @@
+package com.melly.timerocketserver.global.logging;
+
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.appender.Slf4JLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// p6spy Slf4JLogger 와 같지만, formatter 가 빈 메시지를 반환한 SQL(production 모드에서 샘플링되지 않은 SQL)은 출력하지 않음
+public class SkipEmptySlf4JLogger extends Slf4JLogger {
+    private static final Logger log = LoggerFactory.getLogger("p6spy");
+
+    @Override
+    public void logSQL(int connectionId, String now, long elapsed, Category category, String prepared, String sql, String url) {
+        String msg = strategy.formatMessage(connectionId, now, elapsed, category.toString(), prepared, sql, url);
+        if (msg == null || msg.isEmpty()) {
+            return;
+        }
+        if (Category.ERROR.equals(category)) {
+            log.error(msg);
+        } else if (Category.WARN.equals(category)) {
+            log.warn(msg);
+        } else if (Category.DEBUG.equals(category)) {
+            log.debug(msg);
+        } else {
+            log.info(msg);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.melly.timerocketserver.global.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청별 SQL 실행 수/시간 집계 (N+1, 불필요한 반복 조회 확인용)
+// Spring Security 필터(로그인, JwtFilter 등)의 SQL 도 포함되도록 가장 먼저 실행
+// header-enabled 이면 X-SQL-Count, X-SQL-Time-Ms 응답 헤더 추가 (응답이 commit 되기 직전에 설정하므로 본문을 버퍼링하지 않음)
+// warn-threshold 를 넘는 요청은 경고 로그 출력
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final boolean headerEnabled;
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(@Value("${app.sql-count.header-enabled:false}") boolean headerEnabled,
+                                   @Value("${app.sql-count.warn-threshold:20}") int warnThreshold) {
+        this.headerEnabled = headerEnabled;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Counter counter = SqlStatementCounter.start();
+        HttpServletResponse target = response;
+        if (headerEnabled) {
+            target = new OnCommittedResponseWrapper(response) {
+                @Override
+                protected void onResponseCommitted() {
+                    writeHeaders(response, counter);
+                }
+            };
+        }
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            SqlStatementCounter.stop();
+            if (headerEnabled && !response.isCommitted()) {
+                writeHeaders(response, counter);
+            }
+            if (warnThreshold > 0 && counter.getCount() > warnThreshold) {
+                log.warn("SQL {}회 실행 ({} ms) : {} {}", counter.getCount(), counter.getElapsedMillis(), request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+
+    private void writeHeaders(HttpServletResponse response, SqlStatementCounter.Counter counter) {
+        response.setHeader(COUNT_HEADER, String.valueOf(counter.getCount()));
+        response.setHeader(TIME_HEADER, String.valueOf(counter.getElapsedMillis()));
+    }
+}
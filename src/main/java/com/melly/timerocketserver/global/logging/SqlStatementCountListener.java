@@ -0,0 +1,16 @@
+package com.melly.timerocketserver.global.logging;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// p6spy-spring-boot-starter 가 JdbcEventListener 빈을 자동으로 등록 (query, update, batch 실행 모두 onAfterAnyExecute 로 들어옴)
+@Component
+public class SqlStatementCountListener extends JdbcEventListener {
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        SqlStatementCounter.record(timeElapsedNanos);
+    }
+}
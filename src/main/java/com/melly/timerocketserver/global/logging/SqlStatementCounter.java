@@ -0,0 +1,43 @@
+package com.melly.timerocketserver.global.logging;
+
+// 현재 스레드(요청)에서 실행된 SQL 수와 실행 시간 집계
+// SqlStatementCountFilter 가 요청마다 start/stop 하고, SqlStatementCountListener 가 SQL 실행마다 record 호출
+// @Async 등 다른 스레드에서 실행된 SQL 은 포함되지 않음
+public final class SqlStatementCounter {
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static final class Counter {
+        private int count;
+        private long elapsedNanos;
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+    }
+
+    public static Counter start() {
+        Counter counter = new Counter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    // 집계 중인 스레드에서만 기록 (스케줄러 등 요청 밖의 SQL 은 무시)
+    public static void record(long elapsedNanos) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+            counter.elapsedNanos += elapsedNanos;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.melly.timerocketserver.global.security;
 
+import com.melly.timerocketserver.domain.entity.UserEntity;
+import com.melly.timerocketserver.global.exception.PasswordHashingBusyException;
 import com.melly.timerocketserver.global.jwt.JwtUtil;
 import com.melly.timerocketserver.global.jwt.RefreshEntity;
 import com.melly.timerocketserver.global.jwt.RefreshRepository;
+import com.melly.timerocketserver.global.jwt.TokenEpochService;
 import com.melly.timerocketserver.global.util.CookieUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,8 +23,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Date;
 import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 // UsernamePasswordAuthenticationFilter --> 로그인 요청을 처리하고, 인증 토큰을 생성하여 인증 관리
@@ -27,11 +32,21 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final RefreshRepository refreshRepository;
+    private final TokenEpochService tokenEpochService;
+    // 인증(사용자 조회 + 비밀번호 검증) 시간을 성공/실패/해시 대기열 초과로 나눠서 기록
+    private final Timer authenticationSuccess;
+    private final Timer authenticationFailure;
+    private final Timer authenticationBusy;
 
-    public CustomLoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, RefreshRepository refreshRepository) {
+    public CustomLoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, RefreshRepository refreshRepository,
+                             TokenEpochService tokenEpochService, MeterRegistry meterRegistry) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.refreshRepository = refreshRepository;
+        this.tokenEpochService = tokenEpochService;
+        this.authenticationSuccess = authenticationTimer(meterRegistry, "success");
+        this.authenticationFailure = authenticationTimer(meterRegistry, "failure");
+        this.authenticationBusy = authenticationTimer(meterRegistry, "busy");
         setFilterProcessesUrl("/api/users/login"); // 로그인 URL 변경
     }
 
@@ -47,7 +62,20 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(username, password,null);
 
-        return authenticationManager.authenticate(authToken);
+        long start = System.nanoTime();
+        try {
+            Authentication authentication = authenticationManager.authenticate(authToken);
+            authenticationSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return authentication;
+        } catch (PasswordHashingBusyException e) {
+            authenticationBusy.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            // 비밀번호 해시 작업 대기열이 가득 찬 경우 503 응답 후 인증 처리 중단 (null 반환)
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return null;
+        } catch (AuthenticationException e) {
+            authenticationFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
     }
 
     // 로그인 성공시 실행하는 메소드 (여기서 JWT를 발급하면 됨)
@@ -61,8 +89,12 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
         GrantedAuthority auth = iterator.next();
         String role = auth.getAuthority();
 
+        // stateless 모드이면 토큰에 userId, status, epoch 도 담음
+        UserEntity user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
+        Integer epoch = tokenEpochService.epochForIssue(user.getUserId());
+
         // Access Token 생성
-        String access = jwtUtil.createJwt("access", username, role, 600000L); // 10분
+        String access = jwtUtil.createJwt("access", username, role, user.getUserId(), user.getStatus().name(), epoch, 600000L); // 10분
         response.setHeader("Authorization", access);
         response.setStatus(HttpStatus.OK.value());
         // 로그인 성공시 JSON 응답 작성
@@ -77,13 +109,8 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
         String rememberMe = (String) request.getAttribute("rememberMe");
         if ("true".equals(rememberMe)) {
             // Refresh Token 생성 및 쿠키 설정
-            String refresh = jwtUtil.createJwt("refresh", username, role, 86400000L); // 24시간
-            Date date = new Date(System.currentTimeMillis() + 86400000L);
-            RefreshEntity refreshEntity = RefreshEntity.builder()
-                    .username(username)
-                    .refreshToken(refresh)
-                    .tokenExpiration(date.toString()).build();
-            refreshRepository.save(refreshEntity);
+            String refresh = jwtUtil.createJwt("refresh", username, role, user.getUserId(), user.getStatus().name(), epoch, 86400000L); // 24시간
+            refreshRepository.save(RefreshEntity.of(username, refresh, 86400000L));
             response.addCookie(CookieUtil.createCookie("refresh", refresh));
             log.info("Refresh Token 생성 성공");
         }
@@ -96,4 +123,10 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
         response.setStatus(401);
     }
 
+    private static Timer authenticationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.login")
+                .description("로그인 인증 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
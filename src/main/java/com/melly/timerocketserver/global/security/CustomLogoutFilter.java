@@ -1,7 +1,11 @@
 package com.melly.timerocketserver.global.security;
 
+import com.melly.timerocketserver.global.jwt.AccessTokenDenylist;
+import com.melly.timerocketserver.global.jwt.JwtClaims;
 import com.melly.timerocketserver.global.jwt.JwtUtil;
 import com.melly.timerocketserver.global.jwt.RefreshRepository;
+import com.melly.timerocketserver.global.jwt.TokenEpochService;
+import com.melly.timerocketserver.global.util.HashUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,10 +23,15 @@ import java.io.IOException;
 public class CustomLogoutFilter extends GenericFilterBean {
     private final JwtUtil jwtUtil;
     private final RefreshRepository refreshRepository;
+    private final TokenEpochService tokenEpochService;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    public CustomLogoutFilter(JwtUtil jwtUtil, RefreshRepository refreshRepository) {
+    public CustomLogoutFilter(JwtUtil jwtUtil, RefreshRepository refreshRepository, TokenEpochService tokenEpochService,
+                              AccessTokenDenylist accessTokenDenylist) {
         this.jwtUtil = jwtUtil;
         this.refreshRepository = refreshRepository;
+        this.tokenEpochService = tokenEpochService;
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
     @Override
@@ -73,14 +82,16 @@ public class CustomLogoutFilter extends GenericFilterBean {
             sessionCookie.setPath("/");
             response.addCookie(sessionCookie);
 
+            denyAccessToken(request);
             response.setStatus(HttpServletResponse.SC_OK);
             log.info("로그아웃 성공");
             return;
         }
 
-        // expired check
+        // expired check (서명 검증과 파싱은 한 번만 수행)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh_token);
+            claims = jwtUtil.parseClaims(refresh_token);
         } catch (ExpiredJwtException e) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -88,24 +99,23 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh_token);
-        if (!category.equals("refresh")) {
+        if (!"refresh".equals(claims.getCategory())) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        // DB에 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefreshToken(refresh_token);
-        if (!isExist) {
+        // 로그아웃 진행
+        // Refresh 토큰 DB에서 제거 (삭제된 행이 없으면 DB에 없는 토큰)
+        int deleted = refreshRepository.deleteByTokenHash(HashUtil.sha256Hex(refresh_token));
+        if (deleted == 0) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
-
-        // 로그아웃 진행
-        // Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefreshToken(refresh_token);
+        denyAccessToken(request);
+        // stateless 모드에서는 이미 발급된 access 토큰도 무효화
+        tokenEpochService.revoke(claims.getUserId());
 
         // Refresh 토큰 Cookie 값 0
         Cookie cookie = new Cookie("refresh", null);
@@ -128,4 +138,21 @@ public class CustomLogoutFilter extends GenericFilterBean {
         response.setStatus(HttpServletResponse.SC_NO_CONTENT); // 204 No Content
         log.info("로그아웃 성공");
     }
+
+    // 로그아웃한 access 토큰은 남은 유효기간 동안 사용할 수 없도록 denylist 에 등록
+    private void denyAccessToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return;
+        }
+        String accessToken = header.substring(7);
+        try {
+            JwtClaims claims = jwtUtil.parseClaims(accessToken);
+            if ("access".equals(claims.getCategory())) {
+                accessTokenDenylist.add(accessToken, claims.getExpiresAt());
+            }
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 유효하지 않은 토큰은 등록할 필요 없음
+        }
+    }
 }
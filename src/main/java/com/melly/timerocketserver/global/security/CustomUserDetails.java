@@ -3,6 +3,7 @@ package com.melly.timerocketserver.global.security;
 import com.melly.timerocketserver.domain.entity.UserEntity;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
@@ -45,6 +46,8 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
                 return userEntity.getRoleDescription();
             }
         });
+        // hasRole("ADMIN") 검사용 (첫 번째 권한은 토큰의 role 클레임으로 쓰이므로 순서 유지)
+        collect.add(new SimpleGrantedAuthority("ROLE_" + userEntity.getRole().name()));
         return collect;
     }
 
@@ -4,12 +4,14 @@ import com.melly.timerocketserver.domain.entity.UserEntity;
 import com.melly.timerocketserver.global.exception.UserNotFoundException;
 import com.melly.timerocketserver.domain.service.UserService;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 // 로그인 시 사용자 정보를 로드하는 역할
+// UserDetailsPasswordService: 로그인 성공 시 저장된 해시의 BCrypt cost 가 설정값과 다르면 새 해시로 교체
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserService userService;
     public CustomUserDetailsService(UserService userService) {
         this.userService = userService;
@@ -18,11 +20,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UserNotFoundException {
         // 이메일과 닉네임을 이용해 사용자 검색
-        UserEntity userEntity = this.userService.findByEmailOrNickname(username);
+        UserEntity userEntity = this.userService.findByUsername(username);
         if (userEntity != null) {
             return new CustomUserDetails(userEntity);
         } else {
             throw new UserNotFoundException("해당 회원은 존재하지 않습니다.");
         }
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity userEntity = ((CustomUserDetails) user).getUser();
+        this.userService.upgradePasswordHash(userEntity, newPassword);
+        return new CustomUserDetails(userEntity);
+    }
 }
@@ -0,0 +1,134 @@
+package com.melly.timerocketserver.global.security;
+
+import com.melly.timerocketserver.domain.entity.UserEntity;
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+// JwtFilter 가 매 요청마다 DB 에서 사용자를 다시 조회하지 않도록 username -> UserEntity 를 잠시 보관하는 캐시
+// 최대 개수(LRU)와 TTL 로 크기가 제한되며, 사용자 정보가 바뀌는 곳(비밀번호/상태 변경)에서 evict 를 호출해야 함
+// evict 직후의 재조회는 replica 에서 변경 전 행을 읽어 TTL 동안 다시 캐시할 수 있으므로,
+// evict 후 primary-read-after-evict-ms 동안은 읽기/쓰기 트랜잭션으로 조회해 primary 에서 읽음
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryReadTemplate;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long primaryReadAfterEvictMillis;
+    private final Map<String, CachedUser> cache;
+    private volatile long primaryReadUntil;
+    // evict 할 때마다 증가 - 조회 시작 후 evict 가 있었으면 조회 결과가 변경 전 행일 수 있으므로 캐시하지 않음
+    private long generation;    // cache 잠금 안에서만 읽고 씀
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static class CachedUser {
+        final UserEntity user;
+        final long expireTime;
+        CachedUser(UserEntity user, long expireTime) {
+            this.user = user;
+            this.expireTime = expireTime;
+        }
+    }
+
+    public PrincipalCache(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                          @Value("${app.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${app.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${app.principal-cache.primary-read-after-evict-ms:5000}") long primaryReadAfterEvictMillis) {
+        this.userRepository = userRepository;
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);    // readOnly 가 아니므로 primary 로 라우팅
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.primaryReadAfterEvictMillis = primaryReadAfterEvictMillis;
+        // accessOrder = true 로 LRU 순서를 유지하고, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목 제거
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                if (size() > PrincipalCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 캐시에 있으면 바로 반환하고, 없거나 만료되었으면 DB 에서 조회 후 저장
+    public UserEntity getOrLoad(String username) {
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (cache) {
+            CachedUser cached = cache.get(username);
+            if (cached != null && cached.expireTime > now) {
+                hits.increment();
+                return cached.user;
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        UserEntity user = now < primaryReadUntil
+                ? primaryReadTemplate.execute(status -> userRepository.findByUsername(username))
+                : userRepository.findByUsername(username);
+        if (user != null) {     // 존재하지 않는 사용자는 캐시하지 않음
+            synchronized (cache) {
+                if (generation == loadGeneration) {
+                    cache.put(username, new CachedUser(user, now + ttlMillis));
+                }
+            }
+        }
+        return user;
+    }
+
+    // 해당 회원의 캐시 항목 제거 (email, nickname 어느 키로 저장되었든 모두 제거)
+    public void evict(Long userId) {
+        evictIf(user -> userId.equals(user.getUserId()));
+    }
+
+    public void evictByEmail(String email) {
+        evictIf(user -> email.equals(user.getEmail()));
+    }
+
+    private void evictIf(Predicate<UserEntity> predicate) {
+        // 캐시에 없던 회원이라도 곧바로 재조회될 수 있으므로 항상 primary 읽기 구간을 연장
+        primaryReadUntil = System.currentTimeMillis() + primaryReadAfterEvictMillis;
+        synchronized (cache) {
+            generation++;
+            cache.values().removeIf(cached -> {
+                if (predicate.test(cached.user)) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
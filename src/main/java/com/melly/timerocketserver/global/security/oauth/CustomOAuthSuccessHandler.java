@@ -1,8 +1,10 @@
 package com.melly.timerocketserver.global.security.oauth;
 
+import com.melly.timerocketserver.domain.entity.UserEntity;
 import com.melly.timerocketserver.global.jwt.JwtUtil;
 import com.melly.timerocketserver.global.jwt.RefreshEntity;
 import com.melly.timerocketserver.global.jwt.RefreshRepository;
+import com.melly.timerocketserver.global.jwt.TokenEpochService;
 import com.melly.timerocketserver.global.security.CustomUserDetails;
 import com.melly.timerocketserver.global.util.CookieUtil;
 import jakarta.servlet.ServletException;
@@ -15,32 +17,30 @@ import org.springframework.security.web.authentication.SimpleUrlAuthenticationSu
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.Date;
 
 @Component
 public class CustomOAuthSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final JwtUtil jwtUtil;
     private final RefreshRepository refreshRepository;
-    public CustomOAuthSuccessHandler(JwtUtil jwtUtil, RefreshRepository refreshRepository) {
+    private final TokenEpochService tokenEpochService;
+    public CustomOAuthSuccessHandler(JwtUtil jwtUtil, RefreshRepository refreshRepository, TokenEpochService tokenEpochService) {
         this.jwtUtil = jwtUtil;
         this.refreshRepository = refreshRepository;
+        this.tokenEpochService = tokenEpochService;
     }
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
         String username = customUserDetails.getUsername();
-        String role = customUserDetails.getUser().getRoleDescription();
+        UserEntity user = customUserDetails.getUser();
+        String role = user.getRoleDescription();
+        Integer epoch = tokenEpochService.epochForIssue(user.getUserId());    // stateless 모드가 아니면 null
 
-        String access = jwtUtil.createJwt("access", username, role, 600000L);
-        String refresh = jwtUtil.createJwt("refresh", username, role, 86400000L);       // 24시간
+        String access = jwtUtil.createJwt("access", username, role, user.getUserId(), user.getStatus().name(), epoch, 600000L);
+        String refresh = jwtUtil.createJwt("refresh", username, role, user.getUserId(), user.getStatus().name(), epoch, 86400000L);       // 24시간
 
-        Date date = new Date(System.currentTimeMillis() + 86400000L);
-        RefreshEntity refreshEntity = RefreshEntity.builder()
-                .username(username)
-                .refreshToken(refresh)
-                .tokenExpiration(date.toString()).build();
-        this.refreshRepository.save(refreshEntity);
+        this.refreshRepository.save(RefreshEntity.of(username, refresh, 86400000L));
 
         // 쿠키 생성
         Cookie accessTokenCookie = new Cookie("accessToken", access);
@@ -8,6 +8,8 @@ import com.melly.timerocketserver.domain.entity.Role;
 import com.melly.timerocketserver.domain.entity.Status;
 import com.melly.timerocketserver.domain.entity.UserEntity;
 import com.melly.timerocketserver.domain.repository.UserRepository;
+import com.melly.timerocketserver.domain.service.EmailExistenceFilter;
+import com.melly.timerocketserver.domain.service.NicknameIndex;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -18,8 +20,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomOAuthUserService extends DefaultOAuth2UserService {
     private UserRepository userRepository;
-    public CustomOAuthUserService(UserRepository userRepository) {
+    private NicknameIndex nicknameIndex;
+    private EmailExistenceFilter emailExistenceFilter;
+    public CustomOAuthUserService(UserRepository userRepository, NicknameIndex nicknameIndex, EmailExistenceFilter emailExistenceFilter) {
         this.userRepository = userRepository;
+        this.nicknameIndex = nicknameIndex;
+        this.emailExistenceFilter = emailExistenceFilter;
     }
 
     @Override
@@ -50,13 +56,15 @@ public class CustomOAuthUserService extends DefaultOAuth2UserService {
             // 아래 return 시 user 대신 다른 변수명 사용하여 user 가 null 이 되지않도록 주의
             user = UserEntity.builder()
                     .email(email)
-                    .nickname(oAuth2Response.getName())
+                    .nickname(oAuth2Response.getName().replace('@', '_'))    // 닉네임에는 '@' 를 쓸 수 없음 (로그인 아이디 구분)
                     .role(Role.USER)
                     .status(Status.ACTIVE)
                     .provider(provider)
                     .providerId(providerId)
                     .build();
             userRepository.save(user);
+            nicknameIndex.add(user.getNickname());
+            emailExistenceFilter.add(email);
         }else{
             // 이미 가입된 사용자인데, provider 가 다르면 예외 발생
             if (user.getProvider() == null || !user.getProvider().equals(provider)) {
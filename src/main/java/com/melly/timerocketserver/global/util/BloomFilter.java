@@ -0,0 +1,82 @@
+package com.melly.timerocketserver.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 집합용 Bloom filter (락 없이 CAS 로 비트를 설정, 삭제는 불가)
+// mightContain 이 false 이면 확실히 없는 값이고, true 이면 있을 수도 있는 값 (정확한 확인은 별도 저장소에서)
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBitCount = new AtomicLong();
+
+    // expectedInsertions 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 크기 계산
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 현재 채워진 비트 비율로 계산한 예상 오탐률
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount.get() / bitSize, hashCount);
+    }
+
+    private void setBit(long index) {
+        int slot = (int) (index >>> 6);
+        long mask = 1L << index;
+        while (true) {
+            long current = bits.get(slot);
+            if ((current & mask) != 0) {
+                return;
+            }
+            if (bits.compareAndSet(slot, current, current | mask)) {
+                setBitCount.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // FNV-1a 64bit + murmur3 fmix64
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,128 @@
+package com.melly.timerocketserver.global.util;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 모든 항목의 유효기간이 같은 key -> value 저장소 (인증 코드, 임시 비밀번호 등)
+// 유효기간이 같으므로 저장 순서 = 만료 순서가 되어, 저장 순서 큐의 앞에서부터 꺼내는 것만으로 만료/초과분 제거가 O(1)
+// 최대 개수를 넘으면 가장 오래된 항목부터 제거하므로 가입 요청이 몰려도 메모리가 maxSize 이상 늘지 않음
+public class ExpiringStore<V> {
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;       // 현재 시각(ms)
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<V>> insertionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final ReentrantLock purgeLock = new ReentrantLock();
+
+    private final LongAdder evictions = new LongAdder();     // 최대 개수 초과로 제거된 수
+    private final LongAdder expirations = new LongAdder();   // 유효기간 만료로 제거된 수
+
+    private static final class Entry<V> {
+        final String key;
+        final V value;
+        final long expireTime;
+        Entry(String key, V value, long expireTime) {
+            this.key = key;
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+    }
+
+    public ExpiringStore(long ttlMillis, int maxSize) {
+        this(ttlMillis, maxSize, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시각을 직접 지정할 때 사용
+    ExpiringStore(long ttlMillis, int maxSize, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public void put(String key, V value) {
+        long now = clock.getAsLong();
+        Entry<V> entry = new Entry<>(key, value, now + ttlMillis);
+        entries.put(key, entry);
+        insertionQueue.offer(entry);
+        queueSize.incrementAndGet();
+        purge(now);
+    }
+
+    // 만료된 항목은 null 을 반환하고 바로 제거
+    public V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireTime <= clock.getAsLong()) {
+            if (entries.remove(key, entry)) {
+                expirations.increment();
+            }
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    // 만료된 항목과 최대 개수를 넘는 오래된 항목을 큐 앞에서부터 제거
+    public void purgeExpired() {
+        purge(clock.getAsLong());
+    }
+
+    private void purge(long now) {
+        // 다른 스레드가 정리 중이면 맡기고 바로 반환
+        if (!purgeLock.tryLock()) {
+            return;
+        }
+        try {
+            // 같은 key 를 다시 저장하면 이전 항목이 큐에 남으므로, 큐 길이도 maxSize 의 2배로 제한
+            Entry<V> head;
+            while ((head = insertionQueue.peek()) != null) {
+                boolean expired = head.expireTime <= now;
+                boolean overCapacity = entries.size() > maxSize || queueSize.get() > maxSize * 2;
+                if (!expired && !overCapacity) {
+                    return;
+                }
+                insertionQueue.poll();
+                queueSize.decrementAndGet();
+                // 이미 새 값으로 바뀌었거나 삭제된 key 는 map 에서 건드리지 않음
+                if (entries.remove(head.key, head)) {
+                    if (expired) {
+                        expirations.increment();
+                    } else {
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 저장 순서 큐의 길이 (덮어쓴 이전 항목 포함)
+    int queueSize() {
+        return queueSize.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+}
@@ -0,0 +1,80 @@
+package com.melly.timerocketserver.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+// key 별 token bucket 요청 제한 (락 없이 CAS 로 갱신)
+// key 를 해시해서 고정 개수의 stripe 에 나눠 담으므로 key 가 아무리 많아도 메모리는 stripes * 8 byte 로 고정
+// 서로 다른 key 가 같은 stripe 를 공유하면 함께 제한될 수 있으므로 stripes 는 동시 key 수보다 넉넉하게 잡아야 함
+// 각 stripe 는 long 하나에 [마지막 충전 시각(ms) 42bit | 남은 토큰(1/1000 단위) 22bit] 를 담음
+public class TokenBucketRateLimiter {
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+
+    private final AtomicLongArray buckets;
+    private final int mask;
+    private final long capacity;        // 1/1000 토큰 단위
+    private final long refillPeriodMs;  // 빈 bucket 이 가득 차는 데 걸리는 시간
+    private final LongSupplier clock;       // 현재 시각(ms)
+    private final long startTime;           // 0 은 "아직 사용하지 않은 stripe" 로 사용
+
+    // refillPeriod 동안 최대 capacity 번 허용, stripes 는 2의 거듭제곱으로 올림
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int stripes) {
+        this(capacity, refillPeriod, stripes, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시각을 직접 지정할 때 사용
+    TokenBucketRateLimiter(int capacity, Duration refillPeriod, int stripes, LongSupplier clock) {
+        if (capacity <= 0 || capacity * ONE_TOKEN > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity 는 1 ~ " + TOKEN_MASK / ONE_TOKEN + " 사이여야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.buckets = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = capacity * ONE_TOKEN;
+        this.refillPeriodMs = Math.max(1, refillPeriod.toMillis());
+        this.clock = clock;
+        this.startTime = clock.getAsLong() - 1;
+    }
+
+    // 토큰이 남아 있으면 하나 사용하고 true, 없으면 false
+    public boolean tryAcquire(String key) {
+        int index = spread(key.hashCode()) & mask;
+        long now = clock.getAsLong() - startTime;
+        while (true) {
+            long current = buckets.get(index);
+            long lastRefill;
+            long tokens;
+            if (current == 0) {
+                lastRefill = now;
+                tokens = capacity;
+            } else {
+                lastRefill = current >>> TOKEN_BITS;
+                tokens = current & TOKEN_MASK;
+                long refill = Math.max(0, now - lastRefill) * capacity / refillPeriodMs;
+                if (refill > 0) {
+                    // 충전량이 1 미만이면 시각을 그대로 두어 다음 요청에서 누적되도록 함
+                    tokens = Math.min(capacity, tokens + refill);
+                    lastRefill = now;
+                }
+            }
+            if (tokens < ONE_TOKEN) {
+                return false;
+            }
+            long updated = (lastRefill << TOKEN_BITS) | (tokens - ONE_TOKEN);
+            if (buckets.compareAndSet(index, current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    // 비슷한 문자열의 hashCode 가 같은 stripe 에 몰리지 않도록 상위 비트를 섞음
+    private static int spread(int hash) {
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        return hash;
+    }
+}
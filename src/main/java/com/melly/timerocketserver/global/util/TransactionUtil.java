@@ -0,0 +1,21 @@
+package com.melly.timerocketserver.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+    // 트랜잭션 안이면 커밋된 뒤에 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+    // 캐시 evict 를 커밋 전에 하면 다른 요청이 아직 바뀌지 않은 행을 다시 읽어 캐시에 넣을 수 있음
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
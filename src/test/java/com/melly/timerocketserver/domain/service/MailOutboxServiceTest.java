@@ -0,0 +1,158 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.domain.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// outbox worker 의 발송 결과 처리 (일부 실패, 재시도 -> DEAD, lease 만료)
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:schema/h2-schema.sql"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)     // worker 가 각자 트랜잭션으로 커밋한 결과를 확인
+class MailOutboxServiceTest {
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private JdbcTemplate jdbcTemplate;
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mailOutboxRepository.deleteAllInBatch();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        mailOutboxService = outboxService(300);
+    }
+
+    @Test
+    void retriesOnlyTheFailedMailsOfABatch() {
+        mailOutboxService.enqueue("a@test.com", "subject", "code 123456");
+        mailOutboxService.enqueue("b@test.com", "subject", "code 654321");
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (MimeMessage message : (MimeMessage[]) invocation.getArgument(0)) {
+                if (recipient(message).equals("b@test.com")) {
+                    failed.put(message, new MessagingException("mailbox unavailable"));
+                }
+            }
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        mailOutboxService.drain();
+
+        Map<String, Object> sent = row("a@test.com");
+        assertThat(sent.get("status")).isEqualTo("SENT");
+        assertThat(sent.get("body")).isNull();
+        assertThat(sent.get("sent_at")).isNotNull();
+
+        Map<String, Object> retry = row("b@test.com");
+        assertThat(retry.get("status")).isEqualTo("PENDING");
+        assertThat(retry.get("attempts")).isEqualTo(1);
+        assertThat(retry.get("last_error")).isEqualTo("mailbox unavailable");
+        assertThat(retry.get("body")).isEqualTo("code 654321");
+    }
+
+    @Test
+    void marksMailDeadAfterMaxAttempts() {
+        mailOutboxService.enqueue("a@test.com", "subject", "temp password");
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        mailOutboxService.drain();
+        assertThat(row("a@test.com").get("status")).isEqualTo("PENDING");
+
+        // 백오프 시간이 지난 것으로 만든 뒤 다시 발송 (max-attempts = 2)
+        jdbcTemplate.update("UPDATE mail_outbox_tbl SET next_attempt_at = DATEADD('DAY', -1, next_attempt_at)");
+        mailOutboxService.drain();
+
+        Map<String, Object> dead = row("a@test.com");
+        assertThat(dead.get("status")).isEqualTo("DEAD");
+        assertThat(dead.get("attempts")).isEqualTo(2);
+        assertThat(dead.get("body")).isNull();
+        assertThat(dead.get("next_attempt_at")).isNotNull();
+    }
+
+    @Test
+    void doesNotTouchMailReclaimedAfterLeaseExpired() {
+        mailOutboxService.enqueue("a@test.com", "subject", "code 123456");
+        doAnswer(invocation -> {
+            // 발송 중 lease 가 만료되어 다른 worker 가 같은 메일을 다시 선점한 상황
+            jdbcTemplate.update("UPDATE mail_outbox_tbl SET next_attempt_at = DATEADD('SECOND', 1, next_attempt_at), attempts = attempts + 1");
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        mailOutboxService.drain();
+
+        Map<String, Object> reclaimed = row("a@test.com");
+        assertThat(reclaimed.get("status")).isEqualTo("PENDING");
+        assertThat(reclaimed.get("body")).isEqualTo("code 123456");
+        assertThat(reclaimed.get("sent_at")).isNull();
+    }
+
+    @Test
+    void leasesClaimedMailsUntilTheBatchCanFinish() {
+        mailOutboxService.enqueue("a@test.com", "subject", "code 123456");
+        LocalDateTime before = jdbcTemplate.queryForObject("SELECT next_attempt_at FROM mail_outbox_tbl", LocalDateTime.class);
+        LocalDateTime[] leased = new LocalDateTime[1];
+        doAnswer(invocation -> {
+            leased[0] = jdbcTemplate.queryForObject("SELECT next_attempt_at FROM mail_outbox_tbl", LocalDateTime.class);
+            throw new MailSendException("connection refused");
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        mailOutboxService.drain();
+
+        // 발송하는 동안에는 lease-seconds(300초) 뒤로 미뤄져 있어 다른 worker 가 잡지 않음
+        assertThat(leased[0]).isAfter(before.plusSeconds(290));
+    }
+
+    @Test
+    void rejectsLeaseShorterThanWorstCaseBatch() {
+        // 연결 1초 + 10통 × (응답 1초 + 쓰기 1초) = 21초
+        assertThatThrownBy(() -> outboxService(20)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private MailOutboxService outboxService(long leaseSeconds) throws Exception {
+        return new MailOutboxService(mailOutboxRepository, mailSender, new TransactionTemplate(transactionManager),
+                mock(MailTemplateRenderer.class), new SimpleMeterRegistry(), "sender@test.com",
+                10, 2, leaseSeconds, 10, 5, 1000, 1000, 1000);
+    }
+
+    private Map<String, Object> row(String recipient) {
+        return jdbcTemplate.queryForMap("SELECT * FROM mail_outbox_tbl WHERE recipient = ?", recipient);
+    }
+
+    private static String recipient(MimeMessage message) throws MessagingException {
+        return message.getAllRecipients()[0].toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.melly.timerocketserver.domain.service;
+
+import com.melly.timerocketserver.domain.dto.request.SignUpRequestDto;
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import com.melly.timerocketserver.global.exception.DuplicateNicknameException;
+import com.melly.timerocketserver.global.jwt.TokenEpochService;
+import com.melly.timerocketserver.global.security.PrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// 회원가입은 중복을 미리 조회하지 않고 unique key 위반으로 판단하므로, 동시에 같은 값으로 가입하면 한 명만 성공해야 함
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:schema/h2-schema.sql"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)     // 두 스레드가 각자 커밋해야 unique key 충돌이 발생
+class UserServiceSignUpTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        userService = new UserService(userRepository, new BCryptPasswordEncoder(4), mock(PrincipalCache.class),
+                mock(TokenEpochService.class), mock(NicknameIndex.class), mock(EmailExistenceFilter.class));
+    }
+
+    @Test
+    void concurrentSignUpWithSameEmail() throws Exception {
+        List<Throwable> failures = signUpConcurrently(
+                request("same@test.com", "first"),
+                request("same@test.com", "second"));
+
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(IllegalArgumentException.class).hasMessage("이미 존재하는 이메일입니다.");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSignUpWithSameNickname() throws Exception {
+        List<Throwable> failures = signUpConcurrently(
+                request("first@test.com", "same"),
+                request("second@test.com", "same"));
+
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(DuplicateNicknameException.class);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void nonDuplicateViolationIsNotReportedAsDuplicateEmail() {
+        // nickname 컬럼은 20자
+        assertThatThrownBy(() -> userService.signUp(request("long@test.com", "n".repeat(30))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private List<Throwable> signUpConcurrently(SignUpRequestDto first, SignUpRequestDto second) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (SignUpRequestDto request : List.of(first, second)) {
+                Callable<Void> signUp = () -> {
+                    start.await();
+                    userService.signUp(request);
+                    return null;
+                };
+                futures.add(executor.submit(signUp));
+            }
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Void> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SignUpRequestDto request(String email, String nickname) {
+        return new SignUpRequestDto(email, "password1!", nickname);
+    }
+}
@@ -0,0 +1,83 @@
+package com.melly.timerocketserver.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary, replica 를 H2 메모리 DB 두 개로 대신해서 트랜잭션 종류별로 어느 DB 에서 읽는지 확인
+class ReplicaRoutingDataSourceTest {
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 2, 1000, false, meterRegistry);
+        DataSource dataSource = routingDataSource(monitor);
+
+        assertThat(serverName(dataSource, true)).isEqualTo("replica");
+        assertThat(serverName(dataSource, false)).isEqualTo("primary");
+        // 트랜잭션 밖의 조회는 primary
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT name FROM server_tbl", String.class)).isEqualTo("primary");
+        assertThat(meterRegistry.get("db.routing").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaStatusIsUnknown() {
+        // H2 는 SHOW REPLICA STATUS 를 지원하지 않으므로 확인 실패 -> 사용 불가
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 2, 1000, true, meterRegistry);
+        monitor.check();
+        DataSource dataSource = routingDataSource(monitor);
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(serverName(dataSource, true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("db.routing").tag("target", "fallback").counter().count()).isEqualTo(1);
+    }
+
+    private DataSource routingDataSource(ReplicaLagMonitor monitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry));
+    }
+
+    private String serverName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM server_tbl", String.class));
+    }
+
+    private EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime())
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE server_tbl (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO server_tbl (name) VALUES (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,84 @@
+package com.melly.timerocketserver.global.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReissueCoalescerTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallerReceivesLeaderResult() throws Exception {
+        ReissueCoalescer coalescer = new ReissueCoalescer(5000, 3000);
+        TokenPair tokens = new TokenPair("access", "refresh");
+
+        Future<TokenPair> leader = executor.submit(() -> coalescer.execute("key", blockingReissue(() -> tokens)));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<TokenPair> waiter = executor.submit(() -> coalescer.execute("key", () -> new TokenPair("other", "other")));
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(tokens);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(tokens);
+    }
+
+    @Test
+    void waiterIsReleasedWhenLeaderThrowsError() throws Exception {
+        ReissueCoalescer coalescer = new ReissueCoalescer(5000, 3000);
+
+        Future<TokenPair> leader = executor.submit(() -> coalescer.execute("key", blockingReissue(() -> {
+            throw new OutOfMemoryError("boom");
+        })));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<TokenPair> waiter = executor.submit(() -> coalescer.execute("key", () -> new TokenPair("other", "other")));
+        Thread.sleep(200);  // waiter 가 진행 중인 결과를 기다리기 시작할 시간
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(OutOfMemoryError.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(OutOfMemoryError.class);
+        // 실패한 결과는 남지 않으므로 다음 요청은 새로 재발급
+        TokenPair retried = new TokenPair("access", "refresh");
+        assertThat(coalescer.execute("key", () -> retried)).isSameAs(retried);
+    }
+
+    @Test
+    void waiterGivesUpAfterWaitTimeout() throws Exception {
+        ReissueCoalescer coalescer = new ReissueCoalescer(5000, 100);
+
+        executor.submit(() -> coalescer.execute("key", blockingReissue(() -> new TokenPair("access", "refresh"))));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> coalescer.execute("key", () -> new TokenPair("other", "other")))
+                .isInstanceOf(IllegalStateException.class);
+        release.countDown();
+    }
+
+    // release 될 때까지 재발급을 붙잡아 두어 다른 요청이 진행 중인 결과를 기다리게 함
+    private Supplier<TokenPair> blockingReissue(Supplier<TokenPair> reissue) {
+        return () -> {
+            leaderStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return reissue.get();
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.melly.timerocketserver.global.logging;
+
+import com.melly.timerocketserver.domain.entity.Role;
+import com.melly.timerocketserver.domain.entity.Status;
+import com.melly.timerocketserver.domain.entity.UserEntity;
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.melly.timerocketserver.support.SqlStatementAssertions.maxSqlStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 자주 호출되는 API 의 SQL 실행 수 상한 (N+1, 불필요한 조회가 추가되면 실패)
+// H2(MySQL 모드)로 전체 애플리케이션을 띄우고 X-SQL-Count 응답 헤더로 확인
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:sql-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:schema/h2-schema.sql",
+        "spring.jwt.secret=sql-budget-test-secret-key-0123456789abcdef",
+        "spring.mail.password=test",
+        "spring.security.oauth2.client.registration.naver.client-id=test",
+        "spring.security.oauth2.client.registration.naver.client-secret=test",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "app.sql-count.header-enabled=true"
+})
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+    private static final String EMAIL = "budget@test.com";
+    private static final String PASSWORD = "password1!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail(EMAIL) == null) {
+            userRepository.save(UserEntity.builder()
+                    .email(EMAIL)
+                    .password(passwordEncoder.encode(PASSWORD))
+                    .nickname("budget")
+                    .role(Role.USER)
+                    .status(Status.ACTIVE)
+                    .build());
+        }
+    }
+
+    // 회원 조회 1 + refresh 토큰 저장 1
+    @Test
+    void login() throws Exception {
+        mockMvc.perform(post("/api/users/login")
+                        .param("username", EMAIL)
+                        .param("password", PASSWORD)
+                        .param("rememberMe", "true"))
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(2));
+    }
+
+    // JwtFilter 의 PrincipalCache 조회 최대 1 (프로필은 캐시된 principal 로 응답)
+    @Test
+    void profile() throws Exception {
+        String accessToken = login(false).getResponse().getHeader("Authorization");
+
+        mockMvc.perform(get("/api/users/profile").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(1));
+    }
+
+    // refresh 토큰 교체 UPDATE 1
+    @Test
+    void reissue() throws Exception {
+        Cookie refresh = login(true).getResponse().getCookie("refresh");
+
+        mockMvc.perform(post("/api/tokens/refresh").cookie(refresh))
+                .andExpect(status().isCreated())
+                .andExpect(maxSqlStatements(1));
+    }
+
+    private MvcResult login(boolean rememberMe) throws Exception {
+        return mockMvc.perform(post("/api/users/login")
+                        .param("username", EMAIL)
+                        .param("password", PASSWORD)
+                        .param("rememberMe", String.valueOf(rememberMe)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
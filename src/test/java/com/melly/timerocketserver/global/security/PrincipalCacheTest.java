@@ -0,0 +1,57 @@
+package com.melly.timerocketserver.global.security;
+
+import com.melly.timerocketserver.domain.entity.UserEntity;
+import com.melly.timerocketserver.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrincipalCache principalCache =
+            new PrincipalCache(userRepository, mock(PlatformTransactionManager.class), 100, 60, 5000);
+
+    @Test
+    void cachesLoadedUser() {
+        when(userRepository.findByUsername("a@test.com")).thenReturn(user());
+
+        principalCache.getOrLoad("a@test.com");
+        principalCache.getOrLoad("a@test.com");
+
+        verify(userRepository, times(1)).findByUsername("a@test.com");
+        assertThat(principalCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheLoadThatRacedWithEvict() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(userRepository.findByUsername("a@test.com")).thenAnswer(invocation -> {
+            // 변경 전 행을 읽은 뒤, 캐시에 넣기 전에 evict 가 일어나는 상황
+            loadStarted.countDown();
+            evicted.await(5, TimeUnit.SECONDS);
+            return user();
+        });
+
+        CompletableFuture<UserEntity> load = CompletableFuture.supplyAsync(() -> principalCache.getOrLoad("a@test.com"));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        principalCache.evict(1L);
+        evicted.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(principalCache.size()).isZero();
+    }
+
+    private static UserEntity user() {
+        return UserEntity.builder().userId(1L).email("a@test.com").nickname("a").build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.melly.timerocketserver.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringStoreTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        ExpiringStore<String> store = new ExpiringStore<>(1000, 10, now::get);
+        store.put("a@test.com", "123456");
+
+        now.addAndGet(999);
+        assertThat(store.get("a@test.com")).isEqualTo("123456");
+
+        now.addAndGet(1);
+        assertThat(store.get("a@test.com")).isNull();
+        assertThat(store.size()).isZero();
+        assertThat(store.getExpirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void purgeRemovesExpiredEntriesThatWereNeverRead() {
+        ExpiringStore<String> store = new ExpiringStore<>(1000, 10, now::get);
+        store.put("a@test.com", "123456");
+        store.put("b@test.com", "654321");
+
+        now.addAndGet(1000);
+        store.purgeExpired();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.queueSize()).isZero();
+        assertThat(store.getExpirationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsOldestEntryWhenOverMaxSize() {
+        ExpiringStore<String> store = new ExpiringStore<>(60_000, 3, now::get);
+        for (int i = 1; i <= 4; i++) {
+            store.put("user" + i + "@test.com", "code" + i);
+        }
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.get("user1@test.com")).isNull();
+        assertThat(store.get("user4@test.com")).isEqualTo("code4");
+        assertThat(store.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void queueStaysBoundedWhenTheSameKeyIsOverwritten() {
+        ExpiringStore<String> store = new ExpiringStore<>(60_000, 3, now::get);
+        for (int i = 0; i < 100; i++) {
+            store.put("a@test.com", "code" + i);
+        }
+
+        // 덮어쓴 이전 항목은 큐에서만 빠지고, 현재 값은 남아 있어야 함
+        assertThat(store.queueSize()).isLessThanOrEqualTo(6);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.get("a@test.com")).isEqualTo("code99");
+        assertThat(store.getEvictionCount()).isZero();
+    }
+}
@@ -0,0 +1,59 @@
+package com.melly.timerocketserver.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void rejectsWhenBucketIsEmpty() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(60), 16, now::get);
+
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isFalse();
+    }
+
+    @Test
+    void refillsInProportionToElapsedTime() {
+        // 60초에 3개 -> 20초마다 1개 충전
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(60), 16, now::get);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a@test.com");
+        }
+
+        now.addAndGet(19_000);
+        assertThat(limiter.tryAcquire("a@test.com")).isFalse();
+
+        // 1초 단위로 나눠 지나가도 충전량이 누적되어야 함
+        now.addAndGet(1_000);
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isFalse();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, Duration.ofSeconds(10), 16, now::get);
+        limiter.tryAcquire("a@test.com");
+
+        now.addAndGet(Duration.ofHours(1).toMillis());
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isFalse();
+    }
+
+    @Test
+    void keysAreLimitedSeparately() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofSeconds(60), 1024, now::get);
+
+        assertThat(limiter.tryAcquire("a@test.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@test.com")).isFalse();
+        assertThat(limiter.tryAcquire("b@test.com")).isTrue();
+    }
+}
@@ -0,0 +1,40 @@
+package com.melly.timerocketserver.support;
+
+import com.melly.timerocketserver.global.logging.SqlStatementCountFilter;
+import com.melly.timerocketserver.global.logging.SqlStatementCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// SQL 실행 수 회귀 검사용 테스트 유틸
+// 서비스 메서드: SqlStatementAssertions.assertMaxStatements(2, () -> refreshService.reissue(...))
+// MockMvc: mockMvc.perform(post("/api/tokens/refresh")...).andExpect(SqlStatementAssertions.maxSqlStatements(3))
+//   (MockMvc 는 app.sql-count.header-enabled=true 로 띄우고 SqlStatementCountFilter 가 등록되어 있어야 함)
+public final class SqlStatementAssertions {
+    private SqlStatementAssertions() {
+    }
+
+    public static void assertMaxStatements(int max, Runnable action) {
+        SqlStatementCounter.Counter counter = SqlStatementCounter.start();
+        try {
+            action.run();
+        } finally {
+            SqlStatementCounter.stop();
+        }
+        assertThat(counter.getCount())
+                .as("실행된 SQL 수 (%d ms)", counter.getElapsedMillis())
+                .isLessThanOrEqualTo(max);
+    }
+
+    public static ResultMatcher maxSqlStatements(int max) {
+        return result -> {
+            String count = result.getResponse().getHeader(SqlStatementCountFilter.COUNT_HEADER);
+            assertThat(count)
+                    .as("%s 헤더 (app.sql-count.header-enabled=true 필요)", SqlStatementCountFilter.COUNT_HEADER)
+                    .isNotNull();
+            assertThat(Integer.parseInt(count))
+                    .as("%s %s 에서 실행된 SQL 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+-- db/ddl 과 같은 테이블, key 이름을 사용하는 H2 테스트용 스키마 (MySQL 전용 문법 제외)
+CREATE TABLE IF NOT EXISTS user_tbl (
+  user_id bigint NOT NULL AUTO_INCREMENT,
+  email varchar(255) NOT NULL,
+  password varchar(255) DEFAULT NULL,
+  nickname varchar(20) DEFAULT NULL,
+  role varchar(20) DEFAULT NULL,
+  status varchar(20) DEFAULT NULL,
+  created_at timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  deleted_at timestamp NULL DEFAULT NULL,
+  provider varchar(255) DEFAULT NULL,
+  provider_id varchar(255) DEFAULT NULL,
+  token_epoch int NOT NULL DEFAULT 0,
+  PRIMARY KEY (user_id),
+  CONSTRAINT email UNIQUE (email),
+  CONSTRAINT nickname UNIQUE (nickname)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tbl (
+  id bigint NOT NULL AUTO_INCREMENT,
+  username varchar(255) NOT NULL,
+  token_hash char(64) NOT NULL,
+  expires_at timestamp NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash)
+);
+
+CREATE TABLE IF NOT EXISTS mail_outbox_tbl (
+  mail_id bigint NOT NULL AUTO_INCREMENT,
+  recipient varchar(255) NOT NULL,
+  subject varchar(255) NOT NULL,
+  body text DEFAULT NULL,
+  status varchar(20) NOT NULL,
+  attempts int NOT NULL DEFAULT 0,
+  next_attempt_at timestamp NOT NULL,
+  last_error varchar(500) DEFAULT NULL,
+  created_at timestamp NOT NULL,
+  sent_at timestamp DEFAULT NULL,
+  PRIMARY KEY (mail_id)
+);
+
+CREATE TABLE IF NOT EXISTS verification_code_tbl (
+  code_type varchar(20) NOT NULL,
+  email varchar(255) NOT NULL,
+  code varchar(64) NOT NULL,
+  expires_at timestamp NOT NULL,
+  PRIMARY KEY (code_type, email)
+);